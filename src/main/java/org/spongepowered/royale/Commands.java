@@ -64,6 +64,8 @@ import org.spongepowered.royale.instance.InstanceType;
 import org.spongepowered.royale.api.RoyaleKeys;
 import org.spongepowered.royale.instance.configuration.InstanceTypeConfiguration;
 import org.spongepowered.royale.instance.exception.UnknownInstanceException;
+import org.spongepowered.royale.message.Message;
+import org.spongepowered.royale.message.MessageCatalog;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -134,14 +136,14 @@ final class Commands {
                                         player.sendMessage(Identity.nil(), Component.text().clickEvent(SpongeComponents.executeCallback(commandCause -> {
                                             final Optional<Instance> instance = Royale.getInstance().getInstanceManager().getInstance(targetWorldKey);
                                             if (instance.isPresent()) {
+                                                final MessageCatalog messages = Royale.getInstance().getMessageCatalog();
                                                 if (instance.get().isFull()) {
-                                                    player.sendMessage(Component.text("Instance is full!"));
+                                                    player.sendMessage(messages.render(player, Message.WORLD_FULL));
                                                     return;
                                                 }
                                                 final ServerPlayer serverPlayer = (ServerPlayer) commandCause.root();
                                                 if (instance.get().addPlayer(serverPlayer)) {
-                                                    player.sendMessage(Component.text("Welcome to the game. Please stand by while others join. You will not be able to move until the game "
-                                                            + "starts."));
+                                                    player.sendMessage(messages.render(player, Message.WELCOME));
                                                 }
                                             }
                                         })).append(LinearComponents
@@ -180,7 +182,9 @@ final class Commands {
                                 final Optional<Instance> inst = Royale.getInstance().getInstanceManager().getInstance(key);
                                 if (inst.isPresent()) {
                                     final ServerPlayer serverPlayer = (ServerPlayer) commandCause.root();
-                                    inst.get().addSpectator(serverPlayer);
+                                    if (!inst.get().addSpectator(serverPlayer)) {
+                                        serverPlayer.sendActionBar(Royale.getInstance().getMessageCatalog().render(serverPlayer, Message.SPECTATORS_FULL));
+                                    }
                                 }
                             })));
                         }
@@ -369,18 +373,15 @@ final class Commands {
                                     .append(Component.text("] is not a valid instance, is it running?"))
                                     .build());
                     }
+                    final MessageCatalog messages = Royale.getInstance().getMessageCatalog();
                     if (instance.get().isFull()) {
-                        player.sendMessage(Identity.nil(), Component.text("Instance is full!"));
+                        player.sendMessage(Identity.nil(), messages.render(player, Message.WORLD_FULL));
                         return CommandResult.success();
                     }
 
-                    player.sendMessage(Identity.nil(), Component.text().content("Joining [")
-                            .append(Component.text(worldKey.formatted(), NamedTextColor.GREEN))
-                            .append(Component.text("]."))
-                            .build());
+                    player.sendMessage(Identity.nil(), messages.render(player, Message.JOINING_WORLD, worldKey.formatted()));
                     if (instance.get().addPlayer(player)) {
-                        player.sendMessage(Component.text("Welcome to the game. Please stand by while others join. You will not be able to move until the game "
-                                + "starts."));
+                        player.sendMessage(Identity.nil(), messages.render(player, Message.WELCOME));
                     }
 
                     return CommandResult.success();
@@ -414,7 +415,9 @@ final class Commands {
                                         .build());
                     }
 
-                    instance.get().addSpectator(player);
+                    if (!instance.get().addSpectator(player)) {
+                        throw new CommandException(Royale.getInstance().getMessageCatalog().render(player, Message.SPECTATORS_FULL));
+                    }
 
                     return CommandResult.success();
                 })
@@ -524,6 +527,47 @@ final class Commands {
                 .build();
     }
 
+    private static Command.Parameterized metricsCommand() {
+        return Command.builder()
+                .permission(Constants.Plugin.ID + ".command.metrics")
+                .shortDescription(Component.text("Displays how long the Royale listeners take"))
+                .executor(context -> {
+                    final List<String> report = Royale.getInstance().getListenerMetrics().report();
+                    if (report.isEmpty()) {
+                        context.sendMessage(Identity.nil(), Component.text("No listener has been invoked yet.", NamedTextColor.YELLOW));
+                    }
+                    for (final String line : report) {
+                        context.sendMessage(Identity.nil(), Component.text(line));
+                    }
+                    return CommandResult.success();
+                })
+                .addChild(Commands.metricsDumpCommand(), "dump")
+                .build();
+    }
+
+    private static Command.Parameterized metricsDumpCommand() {
+        return Command.builder()
+                .permission(Constants.Plugin.ID + ".command.metrics.dump")
+                .shortDescription(Component.text("Writes the listener metrics to a file"))
+                .executor(context -> {
+                    final Path file = Royale.getInstance().getConfigFile().resolve("metrics-" + System.currentTimeMillis() + ".txt");
+                    Royale.getInstance().getWorkerExecutorService().submit(() -> {
+                        Component result;
+                        try {
+                            Royale.getInstance().getListenerMetrics().dump(file);
+                            result = Component.text("Listener metrics written to " + file, NamedTextColor.GREEN);
+                        } catch (final IOException e) {
+                            Royale.getInstance().getPlugin().logger().error("Unable to write listener metrics to {}", file, e);
+                            result = Component.text("Unable to write listener metrics, see the console.", NamedTextColor.RED);
+                        }
+                        final Component message = result;
+                        Royale.getInstance().getTaskExecutorService().submit(() -> context.sendMessage(Identity.nil(), message));
+                    });
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
     static Command.Parameterized rootCommand() {
         return Command.builder()
                 .permission(Constants.Plugin.ID + ".command.root")
@@ -544,6 +588,7 @@ final class Commands {
                 .addChild(Commands.spectateCommand(), "spectate")
                 .addChild(Commands.leaveCommand(), "leave")
                 .addChild(Commands.editCommand(), "edit")
+                .addChild(Commands.metricsCommand(), "metrics")
                 .build();
     }
 
@@ -26,6 +26,9 @@ package org.spongepowered.royale;
 
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.Keys;
+import org.spongepowered.api.effect.potion.PotionEffect;
+import org.spongepowered.api.effect.potion.PotionEffectTypes;
 import org.spongepowered.api.item.ItemTypes;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.item.inventory.ItemStackSnapshot;
@@ -36,6 +39,7 @@ import org.spongepowered.api.world.SerializationBehavior;
 import org.spongepowered.api.world.difficulty.Difficulties;
 import org.spongepowered.api.world.server.WorldTemplate;
 import org.spongepowered.royale.instance.InstanceType;
+import org.spongepowered.royale.instance.crew.CrewArchetype;
 import org.spongepowered.royale.instance.gen.InstanceMutator;
 import org.spongepowered.royale.template.ComponentTemplate;
 
@@ -43,6 +47,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -62,6 +68,7 @@ public final class Constants {
     public static final class Map {
 
         public static final Path INSTANCE_TYPES_FOLDER = Royale.getInstance().getConfigFile().resolve("types");
+        public static final Path LANG_FOLDER = Royale.getInstance().getConfigFile().resolve("lang");
 
         public static final List<ResourceKey> DEFAULT_MAP_MUTATOR_IDS = new ArrayList<>();
 
@@ -96,6 +103,9 @@ public final class Constants {
             public static final int DEFAULT_LENGTH = 300;
             public static final int DEFAULT_END_LENGTH = 10;
             public static final int DEFAULT_AUTOMATIC_START_PLAYER_COUNT = 6;
+            public static final boolean DEFAULT_DROP_INVENTORY_ON_ELIMINATION = false;
+            public static final int DEFAULT_SPECTATOR_CAPACITY = -1;
+            public static final boolean DEFAULT_LIGHTWEIGHT_SPECTATORS = false;
             public static final ComponentTemplate DEFAULT_TEXT_TEMPLATE_START = new ComponentTemplate("<green>Battle!</green>");
             public static final ComponentTemplate DEFAULT_TEXT_TEMPLATE_END =
                     new ComponentTemplate("<pl_sponge:name> <yellow>is the winner!</yellow>");
@@ -112,10 +122,35 @@ public final class Constants {
             }
         }
 
+        public static final class Overtime {
+
+            public static final List<CrewArchetype> DEFAULT_CREW;
+
+            static {
+                final ItemStack tipped = ItemStack.of(ItemTypes.TIPPED_ARROW, 1);
+                tipped.offer(Keys.POTION_EFFECTS, Arrays.asList(
+                        PotionEffect.of(PotionEffectTypes.GLOWING.get(), 1, 60),
+                        PotionEffect.of(PotionEffectTypes.SLOWNESS.get(), 1, 60)));
+
+                final List<CrewArchetype> crew = new ArrayList<>();
+                crew.add(new CrewArchetype(CrewArchetype.Kind.RANGER, 3, new ComponentTemplate("<green>Ranger</green>"),
+                        ItemStack.of(ItemTypes.BOW, 1).createSnapshot(), tipped.createSnapshot(), 7.75));
+                crew.add(new CrewArchetype(CrewArchetype.Kind.SWORDSMAN, 7, new ComponentTemplate("<blue>Swordsman</blue>"),
+                        ItemStack.of(ItemTypes.DIAMOND_SWORD, 1).createSnapshot(), ItemStackSnapshot.empty(), 8.25));
+                crew.add(new CrewArchetype(CrewArchetype.Kind.GUARDIAN, 1, new ComponentTemplate(""),
+                        ItemStackSnapshot.empty(), ItemStackSnapshot.empty(), 1));
+                DEFAULT_CREW = Collections.unmodifiableList(crew);
+            }
+
+            private Overtime() {
+            }
+        }
+
         public static final class Lobby {
 
             public static final ResourceKey LOBBY_WORLD_KEY = ResourceKey.of(Plugin.ID, "lobby");
             public static final String JOIN_SIGN_HEADER = "Join Game";
+            public static final Path SIGN_LINKS_FILE = Royale.getInstance().getConfigFile().resolve("signs.conf");
 
             static final WorldTemplate LOBBY_TEMPLATE = WorldTemplate.builder().from(WorldTemplate.overworld())
                     .key(Lobby.LOBBY_WORLD_KEY)
@@ -33,6 +33,7 @@ import org.spongepowered.api.command.Command;
 import org.spongepowered.api.config.ConfigDir;
 import org.spongepowered.api.data.DataRegistration;
 import org.spongepowered.api.data.persistence.DataStore;
+import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.lifecycle.RegisterBuilderEvent;
 import org.spongepowered.api.event.lifecycle.RegisterCommandEvent;
@@ -40,6 +41,7 @@ import org.spongepowered.api.event.lifecycle.RegisterDataEvent;
 import org.spongepowered.api.event.lifecycle.RegisterRegistryEvent;
 import org.spongepowered.api.event.lifecycle.StartedEngineEvent;
 import org.spongepowered.api.event.lifecycle.StartingEngineEvent;
+import org.spongepowered.api.event.lifecycle.StoppingEngineEvent;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.scheduler.TaskExecutorService;
 import org.spongepowered.api.world.server.WorldManager;
@@ -54,11 +56,14 @@ import org.spongepowered.royale.instance.EventHandler;
 import org.spongepowered.royale.instance.InstanceManagerImpl;
 import org.spongepowered.royale.instance.InstanceType;
 import org.spongepowered.royale.instance.configuration.InstanceTypeConfiguration;
+import org.spongepowered.royale.message.MessageCatalog;
 import org.spongepowered.royale.instance.gen.InstanceMutator;
 import org.spongepowered.royale.instance.gen.mutator.ChestMutator;
 import org.spongepowered.royale.instance.gen.mutator.PlayerSpawnMutator;
+import org.spongepowered.royale.metrics.ListenerMetrics;
 import org.spongepowered.royale.template.ComponentTemplate;
 import org.spongepowered.royale.template.ComponentTemplateTypeSerializer;
+import org.spongepowered.royale.template.PlaceholderCache;
 
 import java.io.IOException;
 import java.nio.file.DirectoryStream;
@@ -76,14 +81,21 @@ public final class Royale {
     private final PluginContainer plugin;
     private final Path configFile;
     private final ConfigurationOptions options;
-    private final InstanceManager instanceManager;
+    private final InstanceManagerImpl instanceManager;
+    private final ListenerMetrics listenerMetrics;
+    private final PlaceholderCache placeholderCache;
+    private final MessageCatalog messageCatalog;
     private TaskExecutorService taskExecutorService;
+    private TaskExecutorService workerExecutorService;
 
     @Inject
     public Royale(final PluginContainer plugin, @ConfigDir(sharedRoot = false) final Path configFile) {
         Royale.INSTANCE = this;
 
-        this.instanceManager = new InstanceManagerImpl();
+        this.listenerMetrics = new ListenerMetrics();
+        this.placeholderCache = new PlaceholderCache();
+        this.messageCatalog = new MessageCatalog();
+        this.instanceManager = new InstanceManagerImpl(this.listenerMetrics);
         this.plugin = plugin;
         this.configFile = configFile;
         this.options = ConfigurationOptions.defaults()
@@ -112,11 +124,37 @@ public final class Royale {
         return this.instanceManager;
     }
 
+    public ListenerMetrics getListenerMetrics() {
+        return this.listenerMetrics;
+    }
+
+    public PlaceholderCache getPlaceholderCache() {
+        return this.placeholderCache;
+    }
+
+    public MessageCatalog getMessageCatalog() {
+        return this.messageCatalog;
+    }
+
+    /**
+     * Runs work on the main server thread. Anything touching worlds, entities,
+     * players or instance state must go through this executor.
+     */
     public TaskExecutorService getTaskExecutorService() {
         Objects.requireNonNull(this.taskExecutorService);
         return this.taskExecutorService;
     }
 
+    /**
+     * Runs pure computation off the main server thread, such as rendering
+     * templates without placeholders. Results must be handed back to the
+     * {@link #getTaskExecutorService() main thread} before being applied.
+     */
+    public TaskExecutorService getWorkerExecutorService() {
+        Objects.requireNonNull(this.workerExecutorService);
+        return this.workerExecutorService;
+    }
+
     @Listener
     public void onRegisterData(RegisterDataEvent event) {
         final ResourceKey datastoreKey = ResourceKey.of(this.plugin, "datastore");
@@ -131,6 +169,16 @@ public final class Royale {
                 .store(dataStore)
                 .build();
         event.register(registration);
+
+        // Marks overtime crew, so members left behind in unloaded chunks can be recognised once they load again
+        final DataStore crewStore = DataStore.builder().pluginData(ResourceKey.of(this.plugin, "crew"))
+                .holder(Entity.class)
+                .keys(RoyaleKeys.CREW)
+                .build();
+        event.register(DataRegistration.builder()
+                .dataKey(RoyaleKeys.CREW)
+                .store(crewStore)
+                .build());
     }
 
     @Listener
@@ -151,8 +199,10 @@ public final class Royale {
 
     @Listener
     public void onStartingServer(final StartingEngineEvent<Server> event) {
-        Sponge.eventManager().registerListeners(this.plugin, new EventHandler());
+        Sponge.eventManager().registerListeners(this.plugin, new EventHandler(this.instanceManager, this.listenerMetrics));
         this.taskExecutorService = event.engine().scheduler().createExecutor(this.plugin);
+        this.workerExecutorService = Sponge.asyncScheduler().createExecutor(this.plugin);
+        this.messageCatalog.load(Constants.Map.LANG_FOLDER);
     }
 
     @Listener
@@ -169,10 +219,17 @@ public final class Royale {
                     if (exception != null) {
                         this.plugin.logger().fatal(exception);
                         Sponge.server().shutdown();
+                        return;
                     }
+                    this.instanceManager.restoreSignLinks();
                 }, Royale.getInstance().getTaskExecutorService());
     }
 
+    @Listener
+    public void onStoppingServer(final StoppingEngineEvent<Server> event) {
+        this.instanceManager.flushSignLinks();
+    }
+
     private Map<ResourceKey, InstanceMutator> defaultMutators() {
         final Map<ResourceKey, InstanceMutator> defaultMutators = new HashMap<>(2);
         defaultMutators.put(ResourceKey.of(Constants.Plugin.ID, "chest"), new ChestMutator());
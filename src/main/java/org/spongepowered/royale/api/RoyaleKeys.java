@@ -35,4 +35,6 @@ public final class RoyaleKeys {
 
     public static final Key<Value<ResourceKey>> TYPE = Key.builder().key(ResourceKey.of(Royale.getInstance().getPlugin(), "type")).elementType(ResourceKey.class).build();
 
+    public static final Key<Value<Boolean>> CREW = Key.builder().key(ResourceKey.of(Royale.getInstance().getPlugin(), "crew")).elementType(Boolean.class).build();
+
 }
@@ -0,0 +1,160 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.block.entity.carrier.chest.Chest;
+import org.spongepowered.api.data.Keys;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityTypes;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.ItemStackComparators;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+import org.spongepowered.api.item.inventory.Slot;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.world.BlockChangeFlags;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Puts the inventory of an eliminated player into a chest where they were
+ * eliminated, rather than spilling one item entity per stack. Whatever finds
+ * no room in a chest is dropped as merged item entities instead.
+ */
+final class EliminationDrop {
+
+    private static final int SEARCH_HEIGHT = 3;
+    private static final Direction[] OVERFLOW_DIRECTIONS = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST, Direction.UP};
+
+    static void drop(final ServerPlayer player) {
+        final List<ItemStack> stacks = new ArrayList<>();
+        for (final Slot slot : player.inventory().slots()) {
+            final ItemStack stack = slot.peek();
+            if (!stack.isEmpty()) {
+                stacks.add(stack);
+            }
+        }
+        if (stacks.isEmpty()) {
+            return;
+        }
+
+        final ServerWorld world = player.world();
+        final Vector3i position = EliminationDrop.findFree(world, player.blockPosition());
+        if (position == null) {
+            // Water, lava or a tight tunnel, there is no room for a chest
+            EliminationDrop.spill(world, player.position(), stacks);
+            return;
+        }
+
+        // A single chest holds fewer slots than a player inventory, whatever is left goes into a second one next to it
+        List<ItemStack> leftover = EliminationDrop.fill(world, position, stacks);
+        if (leftover.isEmpty()) {
+            return;
+        }
+        for (final Direction direction : EliminationDrop.OVERFLOW_DIRECTIONS) {
+            final Vector3i next = position.add(direction.asBlockOffset());
+            if (EliminationDrop.isFree(world, next)) {
+                leftover = EliminationDrop.fill(world, next, leftover);
+                break;
+            }
+        }
+        EliminationDrop.spill(world, player.position(), leftover);
+    }
+
+    private static @Nullable Vector3i findFree(final ServerWorld world, final Vector3i origin) {
+        for (int i = 0; i <= EliminationDrop.SEARCH_HEIGHT; i++) {
+            final Vector3i position = origin.add(0, i, 0);
+            if (EliminationDrop.isFree(world, position)) {
+                return position;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFree(final ServerWorld world, final Vector3i position) {
+        final BlockType type = world.block(position).type();
+        return type == BlockTypes.AIR.get() || type == BlockTypes.CAVE_AIR.get();
+    }
+
+    private static List<ItemStack> fill(final ServerWorld world, final Vector3i position, final List<ItemStack> stacks) {
+        world.setBlock(position, BlockTypes.CHEST.get().defaultState(), BlockChangeFlags.ALL);
+        final Chest chest = world.blockEntity(position).filter(Chest.class::isInstance).map(Chest.class::cast).orElse(null);
+        if (chest == null) {
+            return stacks;
+        }
+        final List<ItemStack> leftover = new ArrayList<>();
+        for (final ItemStack stack : stacks) {
+            for (final ItemStackSnapshot rejected : chest.inventory().offer(stack).rejectedItems()) {
+                leftover.add(rejected.createStack());
+            }
+        }
+        return leftover;
+    }
+
+    private static void spill(final ServerWorld world, final Vector3d position, final List<ItemStack> stacks) {
+        for (final ItemStack stack : EliminationDrop.merge(stacks)) {
+            final Entity item = world.createEntity(EntityTypes.ITEM.get(), position);
+            item.offer(Keys.ITEM_STACK_SNAPSHOT, stack.createSnapshot());
+            world.spawnEntity(item);
+        }
+    }
+
+    // Tops up earlier stacks of the same item first, so as few item entities as possible are spawned
+    private static List<ItemStack> merge(final List<ItemStack> stacks) {
+        final Comparator<ItemStack> sameItem = ItemStackComparators.IGNORE_SIZE.get();
+        final List<ItemStack> merged = new ArrayList<>();
+        for (final ItemStack stack : stacks) {
+            int remaining = stack.quantity();
+            for (final ItemStack target : merged) {
+                if (remaining == 0) {
+                    break;
+                }
+                final int room = target.maxStackQuantity() - target.quantity();
+                if (room > 0 && sameItem.compare(target, stack) == 0) {
+                    final int moved = Math.min(room, remaining);
+                    target.setQuantity(target.quantity() + moved);
+                    remaining -= moved;
+                }
+            }
+            if (remaining > 0) {
+                final ItemStack rest = stack.copy();
+                rest.setQuantity(remaining);
+                merged.add(rest);
+            }
+        }
+        return merged;
+    }
+
+    private EliminationDrop() {
+    }
+}
@@ -28,14 +28,14 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.entity.BlockEntity;
 import org.spongepowered.api.block.entity.Sign;
+import org.spongepowered.api.block.transaction.BlockTransaction;
 import org.spongepowered.api.block.transaction.Operations;
 import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.data.type.HandTypes;
-import org.spongepowered.api.effect.potion.PotionEffect;
-import org.spongepowered.api.effect.potion.PotionEffectTypes;
 import org.spongepowered.api.entity.living.player.gamemode.GameModes;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.EventContextKeys;
@@ -46,54 +46,78 @@ import org.spongepowered.api.event.block.InteractBlockEvent;
 import org.spongepowered.api.event.block.entity.ChangeSignEvent;
 import org.spongepowered.api.event.cause.entity.damage.DamageTypes;
 import org.spongepowered.api.event.cause.entity.damage.source.DamageSource;
-import org.spongepowered.api.event.entity.ChangeEntityWorldEvent;
 import org.spongepowered.api.event.entity.DamageEntityEvent;
-import org.spongepowered.api.event.entity.DestructEntityEvent;
-import org.spongepowered.api.event.entity.MoveEntityEvent;
 import org.spongepowered.api.event.filter.Getter;
 import org.spongepowered.api.event.filter.cause.First;
 import org.spongepowered.api.event.filter.cause.Root;
 import org.spongepowered.api.event.lifecycle.RefreshGameEvent;
 import org.spongepowered.api.event.network.ServerSideConnectionEvent;
+import org.spongepowered.api.event.world.chunk.ChunkEvent;
+import org.spongepowered.api.util.AABB;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
 import org.spongepowered.royale.Constants;
 import org.spongepowered.royale.Royale;
 import org.spongepowered.royale.api.Instance;
 import org.spongepowered.royale.api.RoyaleKeys;
 import org.spongepowered.royale.configuration.MappedConfigurationAdapter;
 import org.spongepowered.royale.instance.configuration.InstanceTypeConfiguration;
+import org.spongepowered.royale.metrics.LatencyHistogram;
+import org.spongepowered.royale.metrics.ListenerMetrics;
+import org.spongepowered.royale.message.Message;
+import org.spongepowered.royale.message.MessageCatalog;
 
 import java.nio.file.Path;
 import java.util.Optional;
 
 public final class EventHandler {
 
+    private final InstanceManagerImpl instances;
+    private final LatencyHistogram damageTimer;
+    private final LatencyHistogram placeTimer;
+    private final LatencyHistogram breakTimer;
+    private final LatencyHistogram interactByPlayerTimer;
+
+    public EventHandler(final InstanceManagerImpl instances, final ListenerMetrics metrics) {
+        this.instances = instances;
+        this.damageTimer = metrics.histogram("EventHandler#onDamagePlayer");
+        this.placeTimer = metrics.histogram("EventHandler#onPlace");
+        this.breakTimer = metrics.histogram("EventHandler#onBreak");
+        this.interactByPlayerTimer = metrics.histogram("EventHandler#onInteractByPlayer");
+    }
+
     @Listener(order = Order.LAST)
     public void onJoin(final ServerSideConnectionEvent.Join event, @Getter("player") final ServerPlayer player) {
-        final ServerWorld world = player.world();
-        final Optional<Instance> instanceOpt = Royale.getInstance().getInstanceManager().getInstance(world.key());
-        if (!instanceOpt.isPresent()) {
+        final InstanceImpl instance = this.instances.instanceOf(player.world());
+        if (instance == null) {
             return;
         }
-
-        if (instanceOpt.get().isPlayerRegistered(player)) {
+        final PlayerSession session = this.instances.sessionOf(player.uniqueId());
+        if (session != null && session.instance() == instance && session.isPlayer()) {
             player.offer(Keys.GAME_MODE, GameModes.SPECTATOR.get());
         }
     }
 
     @Listener(order = Order.LAST)
     public void onDisconnect(final ServerSideConnectionEvent.Disconnect event, @Getter("player") final ServerPlayer player) {
-        final ServerWorld world = player.world();
-        final Optional<Instance> instanceOpt = Royale.getInstance().getInstanceManager().getInstance(world.key());
-        if (!instanceOpt.isPresent()) {
+        Royale.getInstance().getPlaceholderCache().invalidate(player.uniqueId());
+
+        final PlayerSession session = this.instances.sessionOf(player.uniqueId());
+        if (session == null) {
             return;
         }
 
-        if (instanceOpt.get().isPlayerRegistered(player)) {
-            instanceOpt.get().removePlayer(player);
+        if (!session.isPlayer()) {
+            session.instance().removeSpectator(player);
+        } else {
+            if (session.isAlive()) {
+                session.instance().removePlayer(player);
+            }
+            session.instance().release(player);
         }
 
         final ServerWorld lobby = Sponge.server().worldManager().world(Constants.Map.Lobby.LOBBY_WORLD_KEY).orElse(Sponge.server().worldManager().defaultWorld());
@@ -102,127 +126,88 @@ public final class EventHandler {
         player.offer(Keys.GAME_MODE, GameModes.SURVIVAL.get());
     }
 
-    @Listener(order = Order.LAST)
-    public void onMoveEntity(final MoveEntityEvent event, @Getter("entity") final ServerPlayer player) {
-        final ServerWorld world = player.world();
-        final Optional<Instance> instance = Royale.getInstance().getInstanceManager().getInstance(world.key());
-
-        // We only care about inner-instance movement
-        if (!instance.isPresent()) {
-            return;
-        }
-
-        // We only care about registered players
-        if (!instance.get().isPlayerRegistered(player)) {
-            if (event instanceof ChangeEntityWorldEvent && !((ChangeEntityWorldEvent) event).originalWorld().equals(((ChangeEntityWorldEvent) event).destinationWorld())) {
-                instance.get().removeSpectator(player);
-            }
-            return;
-        }
-
-        if (event instanceof ChangeEntityWorldEvent && !((ChangeEntityWorldEvent) event).originalWorld().equals(((ChangeEntityWorldEvent) event).destinationWorld())) {
-            instance.get().removePlayer(player);
-            Sponge.server().serverScoreboard().ifPresent(player::setScoreboard);
-            player.offer(Keys.GAME_MODE, GameModes.SURVIVAL.get());
-            return;
-        }
-
-        // If a Player has already spawned, this means they are playing. See if the instance allows movement
-        if (!instance.get().getState().canPlayersMove()) {
-            event.setCancelled(true);
-        }
-    }
-
-    @Listener(order = Order.LAST)
-    public void onDestructEntity(final DestructEntityEvent.Death event, @Getter("entity") final ServerPlayer player) {
-        final ServerWorld world = player.world();
-        final Optional<Instance> instance = Royale.getInstance().getInstanceManager().getInstance(world.key());
-
-        if (!instance.isPresent()) {
-            return;
-        }
-
-        if (instance.get().isPlayerRegistered(player)) {
-            instance.get().removePlayer(player);
-            event.setCancelled(true);
-            player.transform(Keys.POTION_EFFECTS, list -> {
-                list.add(PotionEffect.of(PotionEffectTypes.NIGHT_VISION, 1, 1000000000));
-                return list;
-            });
-        }
-    }
-
     @Listener
     public void onDamagePlayer(final DamageEntityEvent event, @First DamageSource source, @Getter("entity") final ServerPlayer player) {
-        final ServerWorld world = player.world();
-        if (world.key().equals(Constants.Map.Lobby.LOBBY_WORLD_KEY) && source.type() != DamageTypes.VOID.get()) {
-            event.setCancelled(true);
-            return;
-        }
-
-        final Optional<Instance> instance = Royale.getInstance().getInstanceManager().getInstance(world.key());
-        if (!instance.isPresent()) {
-            return;
-        }
-
-        if (!instance.get().getState().canPlayersTakeDamage()) {
-            event.setCancelled(true);
-        }
+        ListenerMetrics.timed(this.damageTimer, () -> {
+            if (player.world().key().equals(Constants.Map.Lobby.LOBBY_WORLD_KEY) && source.type() != DamageTypes.VOID.get()) {
+                event.setCancelled(true);
+            }
+        });
     }
 
     @Listener
     public void onPlace(final ChangeBlockEvent.All event, @Root final ServerPlayer player) {
-        event.context().get(EventContextKeys.USED_ITEM).ifPresent(item -> {
-            final Optional<ResourceKey> typeKey = item.get(RoyaleKeys.TYPE);
-            final Optional<ResourceKey> worldKey = item.get(RoyaleKeys.WORLD);
-            if (typeKey.isPresent() && worldKey.isPresent()) {
-                event.transactions(Operations.PLACE.get()).forEach(trans -> {
-                    final BlockEntity sign = trans.finalReplacement().location().get().blockEntity().get();
-                    sign.offer(RoyaleKeys.TYPE, typeKey.get());
-                    sign.offer(RoyaleKeys.WORLD, worldKey.get());
-
-                    final Optional<Instance> instOpt = Royale.getInstance().getInstanceManager().getInstance(worldKey.get());
-                    if (instOpt.isPresent()) {
-                        instOpt.get().link((Sign) sign);
-                    } else {
-                        final InstanceType type = Constants.Plugin.INSTANCE_TYPE.get().findValue(typeKey.get()).get();
-                        sign.transform(Keys.SIGN_LINES, lines -> {
-                            lines.set(0, Component.text("Royale", NamedTextColor.AQUA));
-                            lines.set(1, Component.text(worldKey.get().asString()));
-                            lines.set(2, Component.text("loading world", NamedTextColor.YELLOW));
-                            lines.set(3, Component.text(type.name()));
-                            return lines;
-                        });
-
-                        Royale.getInstance().getInstanceManager().createInstance(worldKey.get(), type, false)
-                                .thenAcceptAsync(instance -> instance.link((Sign) sign), Royale.getInstance().getTaskExecutorService());
-                    }
-                });
-            }
+        ListenerMetrics.timed(this.placeTimer, () -> {
+            event.context().get(EventContextKeys.USED_ITEM).ifPresent(item -> {
+                final Optional<ResourceKey> typeKey = item.get(RoyaleKeys.TYPE);
+                final Optional<ResourceKey> worldKey = item.get(RoyaleKeys.WORLD);
+                if (typeKey.isPresent() && worldKey.isPresent()) {
+                    event.transactions(Operations.PLACE.get()).forEach(trans -> {
+                        final BlockEntity sign = trans.finalReplacement().location().get().blockEntity().get();
+                        sign.offer(RoyaleKeys.TYPE, typeKey.get());
+                        sign.offer(RoyaleKeys.WORLD, worldKey.get());
+
+                        final Optional<Instance> instOpt = Royale.getInstance().getInstanceManager().getInstance(worldKey.get());
+                        if (instOpt.isPresent()) {
+                            instOpt.get().link((Sign) sign);
+                        } else {
+                            final InstanceType type = Constants.Plugin.INSTANCE_TYPE.get().findValue(typeKey.get()).get();
+                            sign.transform(Keys.SIGN_LINES, lines -> {
+                                lines.set(0, Component.text("Royale", NamedTextColor.AQUA));
+                                lines.set(1, Component.text(worldKey.get().asString()));
+                                lines.set(2, Component.text("loading world", NamedTextColor.YELLOW));
+                                lines.set(3, Component.text(type.name()));
+                                return lines;
+                            });
+
+                            Royale.getInstance().getInstanceManager().createInstance(worldKey.get(), type, false)
+                                    .thenAcceptAsync(instance -> instance.link((Sign) sign), Royale.getInstance().getTaskExecutorService());
+                        }
+                    });
+                }
+            });
         });
     }
 
     @Listener
     public void onBreak(final ChangeBlockEvent.All event, @Root final ServerPlayer player) {
-        final ServerWorld world = player.world();
-        if (world.key().equals(Constants.Map.Lobby.LOBBY_WORLD_KEY) && !player.hasPermission(Constants.Permissions.ADMIN + ".lobby.edit")) {
-            event.transactions(Operations.BREAK.get()).forEach(Transaction::invalidate);
+        ListenerMetrics.timed(this.breakTimer, () -> {
+            if (player.world().key().equals(Constants.Map.Lobby.LOBBY_WORLD_KEY) && !player.hasPermission(Constants.Permissions.ADMIN + ".lobby.edit")) {
+                event.transactions(Operations.BREAK.get()).forEach(Transaction::invalidate);
+            }
+        });
+    }
+
+    @Listener(order = Order.POST)
+    public void onBreakSign(final ChangeBlockEvent.All event) {
+        final SignLinkRegistry signLinks = this.instances.signLinks();
+        if (signLinks.isEmpty()) {
             return;
         }
-
-        final Optional<Instance> instance = Royale.getInstance().getInstanceManager().getInstance(world.key());
-        if (instance.isPresent() && !instance.get().getState().canPlayersInteract() && instance.get().isPlayerRegistered(player)) {
-            event.transactions(Operations.BREAK.get()).forEach(Transaction::invalidate);
+        for (final BlockTransaction transaction : event.transactions(Operations.BREAK.get())) {
+            if (!transaction.isValid()) {
+                continue;
+            }
+            final BlockSnapshot original = transaction.original();
+            final ResourceKey instanceKey = signLinks.remove(original.world(), original.position());
+            if (instanceKey != null) {
+                this.instances.getInstance(instanceKey)
+                        .ifPresent(instance -> ((InstanceImpl) instance).unlink(ServerLocation.of(original.world(), original.position())));
+            }
         }
     }
 
     @Listener
-    public void onInteract(final InteractBlockEvent.Secondary event, @Root final ServerPlayer player) {
-        final ServerWorld world = player.world();
-        final Optional<Instance> instance = Royale.getInstance().getInstanceManager().getInstance(world.key());
-
-        if (instance.isPresent() && !instance.get().getState().canPlayersInteract() && instance.get().isPlayerRegistered(player)) {
-            event.setCancelled(true);
+    public void onChunkLoad(final ChunkEvent.Load event) {
+        this.instances.signLinks().bindChunk(event.worldKey(), event.chunkPosition());
+
+        final ServerWorld world = Sponge.server().worldManager().world(event.worldKey()).orElse(null);
+        final InstanceImpl instance = world == null ? null : this.instances.instanceOf(world);
+        if (instance != null) {
+            final Vector3i chunk = event.chunkPosition();
+            final AABB bounds = AABB.of(new Vector3d(chunk.x() << 4, world.min().y(), chunk.z() << 4),
+                    new Vector3d((chunk.x() << 4) + 16, world.max().y() + 1, (chunk.z() << 4) + 16));
+            instance.removeStrayCrew(world.entities(bounds, entity -> entity.get(RoyaleKeys.CREW).isPresent()));
         }
     }
 
@@ -235,47 +220,53 @@ public final class EventHandler {
 
     @Listener
     public void onInteractByPlayer(final InteractBlockEvent.Secondary event, @Root final ServerPlayer player) {
-        if (!event.context().get(EventContextKeys.USED_HAND).map(hand -> hand.equals(HandTypes.MAIN_HAND.get())).orElse(false)) {
-            return;
-        }
-        event.block().location().flatMap(Location::blockEntity).filter(Sign.class::isInstance).ifPresent(sign -> {
-            final Optional<ResourceKey> worldKey = sign.get(RoyaleKeys.WORLD);
-            final Optional<ResourceKey> typeKey = sign.get(RoyaleKeys.TYPE);
-            if (worldKey.isPresent() && typeKey.isPresent()) {
-                final Optional<Instance> optInstance = Royale.getInstance().getInstanceManager().getInstance(worldKey.get());
-                if (optInstance.isPresent()) {
-                    final Instance instance = optInstance.get();
-                    instance.link(((Sign) sign));
-                    if (instance.isFull()) {
-                        player.sendActionBar(Component.text("World is full!", NamedTextColor.RED));
-                    } else {
-                        player.sendActionBar(Component.text(String.format("Joining world '%s'", worldKey.get()), NamedTextColor.GREEN));
-                        if (instance.getState().canPlayersJoin()) {
-                            if (instance.addPlayer(player)) {
-                                player.sendMessage(Component.text("Welcome to the game. Please stand by while others join. You will not be able to move until the game "
-                                        + "starts."));
-                            }
+        ListenerMetrics.timed(this.interactByPlayerTimer, () -> {
+            if (!event.context().get(EventContextKeys.USED_HAND).map(hand -> hand.equals(HandTypes.MAIN_HAND.get())).orElse(false)) {
+                return;
+            }
+            event.block().location().flatMap(Location::blockEntity).filter(Sign.class::isInstance).ifPresent(sign -> {
+                final Optional<ResourceKey> worldKey = sign.get(RoyaleKeys.WORLD);
+                final Optional<ResourceKey> typeKey = sign.get(RoyaleKeys.TYPE);
+                if (worldKey.isPresent() && typeKey.isPresent()) {
+                    final Optional<Instance> optInstance = Royale.getInstance().getInstanceManager().getInstance(worldKey.get());
+                    if (optInstance.isPresent()) {
+                        final Instance instance = optInstance.get();
+                        final MessageCatalog messages = Royale.getInstance().getMessageCatalog();
+                        instance.link(((Sign) sign));
+                        if (instance.isFull()) {
+                            player.sendActionBar(messages.render(player, Message.WORLD_FULL));
                         } else {
-                            instance.addSpectator(player);
+                            player.sendActionBar(messages.render(player, Message.JOINING_WORLD, worldKey.get().formatted()));
+                            if (instance.getState().canPlayersJoin()) {
+                                if (instance.addPlayer(player)) {
+                                    player.sendMessage(messages.render(player, Message.WELCOME));
+                                }
+                            } else {
+                                if (!instance.addSpectator(player)) {
+                                    player.sendActionBar(messages.render(player, Message.SPECTATORS_FULL));
+                                }
+                            }
+
                         }
+                    } else {
+                        sign.transform(Keys.SIGN_LINES, lines -> {
+                            lines.set(2, Component.text("creating Instance", NamedTextColor.YELLOW));
+                            return lines;
+                        });
 
+                        final InstanceType type = Constants.Plugin.INSTANCE_TYPE.get().value(typeKey.get());
+                        Royale.getInstance().getInstanceManager().createInstance(worldKey.get(), type, false)
+                                .thenAcceptAsync(instance -> instance.link((Sign) sign), Royale.getInstance().getTaskExecutorService());
                     }
-                } else {
-                    sign.transform(Keys.SIGN_LINES, lines -> {
-                        lines.set(2, Component.text("creating Instance", NamedTextColor.YELLOW));
-                        return lines;
-                    });
-
-                    final InstanceType type = Constants.Plugin.INSTANCE_TYPE.get().value(typeKey.get());
-                    Royale.getInstance().getInstanceManager().createInstance(worldKey.get(), type, false)
-                            .thenAcceptAsync(instance -> instance.link((Sign) sign), Royale.getInstance().getTaskExecutorService());
                 }
-            }
+            });
         });
     }
 
     @Listener
     public void onRefresh(final RefreshGameEvent event) {
+        Royale.getInstance().getPlaceholderCache().invalidateAll();
+        Royale.getInstance().getMessageCatalog().load(Constants.Map.LANG_FOLDER);
         Constants.Plugin.INSTANCE_TYPE.get().stream().forEach(instanceType -> {
             final Path configPath = Constants.Map.INSTANCE_TYPES_FOLDER.resolve(instanceType.key().value() + ".conf");
             final MappedConfigurationAdapter<InstanceTypeConfiguration> adapter = new MappedConfigurationAdapter<>(
@@ -0,0 +1,251 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance;
+
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.royale.Constants;
+import org.spongepowered.royale.Royale;
+import org.spongepowered.royale.message.Message;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Messages, action bars, titles and sounds for everyone in an instance.
+ *
+ * <p>Everything sent within a tick is gathered and goes out once on the
+ * next tick: the last action bar and title win, sounds are only played once
+ * and each player gets the most specific variant meant for them. Three
+ * eliminations in one tick result in a single "1 players left" action bar
+ * and a single sound. Main thread only.</p>
+ */
+public final class InstanceBroadcast {
+
+    private final InstanceImpl instance;
+    private final Pending[] pending = new Pending[Target.values().length];
+    private boolean flushScheduled;
+
+    InstanceBroadcast(final InstanceImpl instance) {
+        this.instance = instance;
+        for (int i = 0; i < this.pending.length; i++) {
+            this.pending[i] = new Pending();
+        }
+    }
+
+    public void message(final Target target, final Component message) {
+        this.pending(target).messages.add(message);
+    }
+
+    public void actionBar(final Target target, final Component actionBar) {
+        final Pending pending = this.pending(target);
+        pending.actionBar = actionBar;
+        pending.actionBarMessage = null;
+        pending.actionBarArgument = null;
+    }
+
+    /**
+     * Sends an action bar rendered in the locale of each player.
+     */
+    public void actionBar(final Target target, final Message message, final String argument) {
+        final Pending pending = this.pending(target);
+        pending.actionBar = null;
+        pending.actionBarMessage = message;
+        pending.actionBarArgument = argument;
+    }
+
+    public void title(final Target target, final Title title) {
+        final Pending pending = this.pending(target);
+        pending.title = title;
+        pending.titleMessage = null;
+        pending.titleArgument = null;
+        pending.titleTimes = null;
+    }
+
+    /**
+     * Shows a title rendered in the locale of each player.
+     */
+    public void title(final Target target, final Message message, final Component argument, final Title.Times times) {
+        final Pending pending = this.pending(target);
+        pending.title = null;
+        pending.titleMessage = message;
+        pending.titleArgument = argument;
+        pending.titleTimes = times;
+    }
+
+    public void sound(final Target target, final Sound sound) {
+        this.pending(target).sounds.add(sound);
+    }
+
+    private Pending pending(final Target target) {
+        if (!this.flushScheduled) {
+            this.flushScheduled = true;
+            Sponge.server().scheduler().submit(Task.builder()
+                    .plugin(Royale.getInstance().getPlugin())
+                    .execute(this::flush)
+                    .name(Constants.Plugin.ID + " - Broadcast - " + this.instance.getWorldKey())
+                    .build()
+            );
+        }
+        return this.pending[target.ordinal()];
+    }
+
+    private void flush() {
+        this.flushScheduled = false;
+        final Optional<ServerWorld> world = Sponge.server().worldManager().world(this.instance.getWorldKey());
+        if (world.isPresent()) {
+            final UUID winner = this.instance.getWinner().orElse(null);
+            final Pending all = this.pending[Target.ALL.ordinal()];
+            for (final ServerPlayer player : world.get().players()) {
+                final Pending group = this.instance.isPlayerAlive(player) ? this.pending[Target.PLAYERS.ordinal()] : this.pending[Target.SPECTATORS.ordinal()];
+                final Pending role = player.uniqueId().equals(winner) ? this.pending[Target.WINNER.ordinal()] : null;
+                this.send(player, all, group, role);
+            }
+        }
+        for (final Pending pending : this.pending) {
+            pending.clear();
+        }
+    }
+
+    private void send(final ServerPlayer player, final Pending all, final Pending group, @Nullable final Pending role) {
+        for (final Component message : all.messages) {
+            player.sendMessage(Identity.nil(), message);
+        }
+        for (final Component message : group.messages) {
+            player.sendMessage(Identity.nil(), message);
+        }
+
+        Component actionBar = role == null ? null : role.actionBar(player);
+        Title title = role == null ? null : role.title(player);
+        if (actionBar == null) {
+            actionBar = group.actionBar(player);
+        }
+        if (actionBar == null) {
+            actionBar = all.actionBar(player);
+        }
+        if (title == null) {
+            title = group.title(player);
+        }
+        if (title == null) {
+            title = all.title(player);
+        }
+        if (actionBar != null) {
+            player.sendActionBar(actionBar);
+        }
+        if (title != null) {
+            player.showTitle(title);
+        }
+
+        for (final Sound sound : all.sounds) {
+            player.playSound(sound);
+        }
+        for (final Sound sound : group.sounds) {
+            if (!all.sounds.contains(sound)) {
+                player.playSound(sound);
+            }
+        }
+
+        if (role != null) {
+            for (final Component message : role.messages) {
+                player.sendMessage(Identity.nil(), message);
+            }
+            for (final Sound sound : role.sounds) {
+                if (!all.sounds.contains(sound) && !group.sounds.contains(sound)) {
+                    player.playSound(sound);
+                }
+            }
+        }
+    }
+
+    public enum Target {
+        /**
+         * Everyone in the instance world.
+         */
+        ALL,
+        /**
+         * Participants still alive.
+         */
+        PLAYERS,
+        /**
+         * Everyone else in the instance world, spectators and eliminated players.
+         */
+        SPECTATORS,
+        /**
+         * The winner of the round, once there is one.
+         */
+        WINNER
+    }
+
+    private static final class Pending {
+
+        final List<Component> messages = new ArrayList<>();
+        final Set<Sound> sounds = new LinkedHashSet<>();
+        @Nullable Component actionBar;
+        @Nullable Message actionBarMessage;
+        @Nullable String actionBarArgument;
+        @Nullable Title title;
+        @Nullable Message titleMessage;
+        @Nullable Component titleArgument;
+        Title.@Nullable Times titleTimes;
+
+        @Nullable Component actionBar(final ServerPlayer player) {
+            if (this.actionBarMessage != null) {
+                return Royale.getInstance().getMessageCatalog().render(player, this.actionBarMessage, this.actionBarArgument);
+            }
+            return this.actionBar;
+        }
+
+        @Nullable Title title(final ServerPlayer player) {
+            if (this.titleMessage != null) {
+                return Title.title(Royale.getInstance().getMessageCatalog().render(player, this.titleMessage, this.titleArgument), Component.empty(),
+                        this.titleTimes);
+            }
+            return this.title;
+        }
+
+        void clear() {
+            this.messages.clear();
+            this.sounds.clear();
+            this.actionBar = null;
+            this.actionBarMessage = null;
+            this.actionBarArgument = null;
+            this.title = null;
+            this.titleMessage = null;
+            this.titleArgument = null;
+            this.titleTimes = null;
+        }
+    }
+}
@@ -24,10 +24,10 @@
  */
 package org.spongepowered.royale.instance;
 
-import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.entity.Sign;
@@ -35,6 +35,7 @@ import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.effect.potion.PotionEffect;
 import org.spongepowered.api.effect.potion.PotionEffectTypes;
 import org.spongepowered.api.effect.sound.SoundTypes;
+import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.gamemode.GameModes;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.scheduler.ScheduledTask;
@@ -46,21 +47,23 @@ import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.royale.Constants;
 import org.spongepowered.royale.Royale;
 import org.spongepowered.royale.api.Instance;
+import org.spongepowered.royale.instance.gen.SafeSpawnGrid;
 import org.spongepowered.royale.instance.scoreboard.InstanceScoreboard;
 import org.spongepowered.royale.instance.task.EndTask;
+import org.spongepowered.royale.instance.task.IdleTask;
 import org.spongepowered.royale.instance.task.InstanceTask;
 import org.spongepowered.royale.instance.task.OvertimeTask;
 import org.spongepowered.royale.instance.task.ProgressTask;
 import org.spongepowered.royale.instance.task.StartTask;
+import org.spongepowered.royale.message.Message;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -69,23 +72,35 @@ import java.util.concurrent.TimeUnit;
 
 public final class InstanceImpl implements Instance {
 
+    private static final int NO_JUMP_AMPLIFIER = 128;
+
+    private final InstanceManagerImpl manager;
     private final ResourceKey worldKey;
     private final InstanceType instanceType;
     private final Deque<Vector3d> unusedSpawns = new ArrayDeque<>();
-    private final Map<UUID, Vector3d> playerSpawns = new HashMap<>();
-    private final Set<UUID> playerDeaths = new HashSet<>();
+    private final PlayerRoster roster = new PlayerRoster();
     private final Set<UUID> tasks = new LinkedHashSet<>();
+    // Crew of the running overtime, any other entity marked as crew is left over from an earlier round
+    private final Set<UUID> crew = new HashSet<>();
     private final InstanceScoreboard scoreboard;
+    private final InstanceBroadcast broadcast;
     private final Set<ServerLocation> signLoc;
-    private State state = State.IDLE;
-    private UUID winner;
+    // Only changed on the main thread, published to workers and listeners
+    private volatile State state = State.IDLE;
+    private volatile UUID winner;
     private boolean unloading;
-    private BossBar bossBar = BossBar.bossBar(Component.text("Royale"), 0.0f, BossBar.Color.GREEN, BossBar.Overlay.PROGRESS);
+    private boolean signDirty;
+    private int spectators;
+    @Nullable private SafeSpawnGrid safeSpawnGrid;
+    private final RoundBossBar bossBar;
 
-    public InstanceImpl(final ServerWorld world, final InstanceType instanceType) {
+    public InstanceImpl(final InstanceManagerImpl manager, final ServerWorld world, final InstanceType instanceType) {
+        this.manager = manager;
         this.worldKey = world.key();
         this.instanceType = instanceType;
-        this.scoreboard = new InstanceScoreboard(this);
+        this.scoreboard = manager.scoreboardFor(this);
+        this.broadcast = new InstanceBroadcast(this);
+        this.bossBar = new RoundBossBar(this);
         this.signLoc = new HashSet<>();
     }
 
@@ -107,61 +122,78 @@ public final class InstanceImpl implements Instance {
 
     @Override
     public boolean addPlayer(ServerPlayer player) {
+        this.checkMainThread();
         if (this.isFull()) {
-            throw new RuntimeException("Instance is full (" + this.unusedSpawns.size() + "/" + this.playerSpawns.size() + ")");
+            throw new RuntimeException("Instance is full (" + this.unusedSpawns.size() + "/" + this.roster.size() + ")");
         }
         if (!this.state.canPlayersJoin()) {
             throw new IllegalStateException("This instance doesn't accept new players");
         }
-        if (this.isPlayerRegistered(player)) {
-            throw new IllegalArgumentException("Player is already registered");
+        final PlayerSession existing = this.manager.sessionOf(player.uniqueId());
+        if (existing != null) {
+            if (existing.isAlive()) {
+                throw new IllegalArgumentException("Player is already registered");
+            }
+            if (existing.isPlayer()) {
+                existing.instance().release(player);
+            } else {
+                existing.instance().removeSpectator(player);
+            }
         }
 
         final ServerWorld world = this.world();
 
         final Vector3d playerSpawn = this.unusedSpawns.pop();
         player.setLocation(ServerLocation.of(world, playerSpawn));
-        this.playerSpawns.put(player.uniqueId(), playerSpawn);
+        final int slot = this.roster.add(player.uniqueId(), playerSpawn);
+        this.manager.bindSession(player.uniqueId(), this, PlayerSession.Role.PLAYER, slot);
 
         this.scoreboard.addPlayer(player);
         final int automaticStartPlayerCount = this.instanceType.getAutomaticStartPlayerCount();
-        if (automaticStartPlayerCount != -1 && (this.isFull() || this.instanceType.getAutomaticStartPlayerCount() == this.playerSpawns.size())) {
+        if (automaticStartPlayerCount != -1 && (this.isFull() || this.instanceType.getAutomaticStartPlayerCount() == this.roster.size())) {
             if (this.state == State.IDLE) {
                 this.advance();
             }
         }
 
-        this.resetPlayer(player);
-        player.offer(Keys.GAME_MODE, GameModes.SURVIVAL.get());
+        this.resetPlayer(player, PlayerStateProfile.Variant.PARTICIPANT);
+        if (!this.state.canPlayersMove()) {
+            this.freeze(player);
+        }
         this.updateSign();
         return true;
     }
 
     @Override
     public boolean removePlayer(final ServerPlayer player) {
-        if (!this.isPlayerRegistered(player)) {
+        this.checkMainThread();
+        final PlayerSession session = this.manager.sessionOf(player.uniqueId());
+        if (session == null || session.instance() != this || !session.isPlayer()) {
             throw new IllegalArgumentException("Player is not registered");
         }
-        this.resetPlayer(player);
-        player.offer(Keys.GAME_MODE, GameModes.SPECTATOR.get());
+        if (!this.state.canPlayersLeave() && this.instanceType.isDropInventoryOnElimination()) {
+            EliminationDrop.drop(player);
+        }
+        this.resetPlayer(player, PlayerStateProfile.Variant.ELIMINATED);
 
         if (this.state.canPlayersLeave()) {
-            final Vector3d spawn = this.playerSpawns.remove(player.uniqueId());
-            this.unusedSpawns.offer(spawn);
+            this.unusedSpawns.offer(this.roster.spawn(session.slot()));
+            this.roster.remove(session.slot());
+            this.manager.unbindSession(player.uniqueId(), this);
             this.scoreboard.removePlayer(player);
         } else {
             this.scoreboard.killPlayer(player);
-            this.playerDeaths.add(player.uniqueId());
+            this.roster.kill(session.slot());
 
-            final int playersLeft = this.playerSpawns.size() - this.playerDeaths.size();
+            final int playersLeft = this.roster.aliveCount();
             if (playersLeft > 0) {
-                this.world().sendActionBar(Component.text(playersLeft + " players left", NamedTextColor.GREEN));
+                this.broadcast.actionBar(InstanceBroadcast.Target.ALL, Message.PLAYERS_LEFT, Integer.toString(playersLeft));
             }
-            this.world().playSound(Sound.sound(SoundTypes.ENTITY_GHAST_HURT, Sound.Source.NEUTRAL, 0.5f, 0.7f));
+            this.broadcast.sound(InstanceBroadcast.Target.ALL, Sound.sound(SoundTypes.ENTITY_GHAST_HURT, Sound.Source.NEUTRAL, 0.5f, 0.7f));
 
             if (this.state != State.ENDING) {
-                if (this.winner == null && this.playerDeaths.size() == this.playerSpawns.size() - 1) {
-                    this.winner = this.playerSpawns.keySet().stream().filter(uuid -> !this.playerDeaths.contains(uuid)).limit(1).findAny().get();
+                if (this.winner == null && playersLeft == 1) {
+                    this.winner = this.roster.lastAlive();
                     this.advanceTo(State.ENDING);
                 }
             }
@@ -170,11 +202,48 @@ public final class InstanceImpl implements Instance {
         return true;
     }
 
+    /**
+     * Forgets an eliminated player who left the instance, so they are free to
+     * join another one. Their roster slot stays killed, unless the instance
+     * still accepts players and they could join it again: then the slot and
+     * its spawn are freed, as they would be taken a second time otherwise.
+     */
+    void release(final ServerPlayer player) {
+        final PlayerSession session = this.manager.sessionOf(player.uniqueId());
+        if (session != null && session.instance() == this && session.isPlayer() && !session.isAlive()) {
+            if (this.state.canPlayersJoin()) {
+                this.unusedSpawns.offer(this.roster.spawn(session.slot()));
+                this.roster.remove(session.slot());
+                this.scoreboard.removePlayer(player);
+                this.updateSign();
+            }
+            this.manager.unbindSession(player.uniqueId(), this);
+        }
+    }
+
     @Override
     public boolean addSpectator(ServerPlayer player) {
-        if (this.isPlayerAlive(player)) {
+        this.checkMainThread();
+        final PlayerSession existing = this.manager.sessionOf(player.uniqueId());
+        if (existing != null && existing.isAlive()) {
             throw new IllegalArgumentException("Player is still alive!");
         }
+        if (existing == null || existing.instance() != this) {
+            final int capacity = this.instanceType.getSpectatorCapacity();
+            if (capacity != -1 && this.spectators >= capacity) {
+                return false;
+            }
+            if (existing != null) {
+                existing.instance().removeSpectator(player);
+            }
+            this.manager.bindSession(player.uniqueId(), this, PlayerSession.Role.SPECTATOR, -1);
+            this.spectators++;
+            if (this.instanceType.isLightweightSpectators()) {
+                // Vanished players aren't sent to anyone else, nobody has to track them
+                player.offer(Keys.VANISH, true);
+                this.bossBar.hide(player);
+            }
+        }
         final Vector2d center = this.world().border().center();
         player.setLocation(ServerLocation.of(this.worldKey, center.x(), 0, center.y()).asHighestLocation());
         player.offer(Keys.GAME_MODE, GameModes.SPECTATOR.get());
@@ -187,7 +256,14 @@ public final class InstanceImpl implements Instance {
 
     @Override
     public boolean removeSpectator(ServerPlayer player) {
-        player.hideBossBar(bossBar);
+        this.checkMainThread();
+        final PlayerSession session = this.manager.sessionOf(player.uniqueId());
+        if (session != null && !session.isPlayer() && session.instance() == this) {
+            this.manager.unbindSession(player.uniqueId(), this);
+            this.spectators--;
+            player.offer(Keys.VANISH, false);
+        }
+        this.bossBar.hide(player);
         player.offer(Keys.GAME_MODE, GameModes.SURVIVAL.get());
         player.transform(Keys.POTION_EFFECTS, list -> {
             list.removeIf(pe -> pe.type().equals(PotionEffectTypes.NIGHT_VISION.get()));
@@ -196,14 +272,27 @@ public final class InstanceImpl implements Instance {
         return true;
     }
 
+    /**
+     * @return Whether the player spectates this instance without boss bar or sidebar
+     */
+    public boolean isLightweightSpectator(final ServerPlayer player) {
+        if (!this.instanceType.isLightweightSpectators()) {
+            return false;
+        }
+        final PlayerSession session = this.manager.sessionOf(player.uniqueId());
+        return session != null && session.instance() == this && !session.isPlayer();
+    }
+
     @Override
     public boolean isPlayerRegistered(ServerPlayer player) {
-        return this.playerSpawns.containsKey(player.uniqueId());
+        final PlayerSession session = this.manager.sessionOf(player.uniqueId());
+        return session != null && session.instance() == this && session.isPlayer();
     }
 
     @Override
     public boolean isPlayerAlive(ServerPlayer player) {
-        return this.isPlayerRegistered(player) && !this.playerDeaths.contains(player.uniqueId());
+        final PlayerSession session = this.manager.sessionOf(player.uniqueId());
+        return session != null && session.instance() == this && session.isAlive();
     }
 
     @Override
@@ -228,7 +317,7 @@ public final class InstanceImpl implements Instance {
 
     @Override
     public Collection<UUID> getPlayers() {
-        return Collections.unmodifiableCollection(this.playerSpawns.keySet());
+        return this.roster.ids();
     }
 
     public void kickAll() {
@@ -237,31 +326,84 @@ public final class InstanceImpl implements Instance {
         this.stopTasks();
 
         for (ServerPlayer player : this.world().players()) {
-            player.sendMessage(Component.text("This instance is unloading. You are being moved to the lobby"));
+            player.sendMessage(Royale.getInstance().getMessageCatalog().render(player, Message.INSTANCE_UNLOADING));
             this.scoreboard.removePlayer(player);
             Sponge.server().serverScoreboard().ifPresent(player::setScoreboard);
             player.setLocation(ServerLocation.of(lobby, lobby.properties().spawnPosition()));
-            this.resetPlayer(player);
-            player.offer(Keys.GAME_MODE, GameModes.SURVIVAL.get());
+            this.resetPlayer(player, PlayerStateProfile.Variant.EVICTED);
+        }
+    }
+
+    private void resetPlayer(final ServerPlayer player, final PlayerStateProfile.Variant variant) {
+        this.instanceType.getPlayerState().apply(player, variant);
+        this.bossBar.hide(player);
+    }
+
+    // Frozen players can neither walk nor jump, so their movement doesn't need to be cancelled
+    private void freeze(final ServerPlayer player) {
+        player.offer(Keys.WALKING_SPEED, 0d);
+        player.transform(Keys.POTION_EFFECTS, list -> {
+            list.add(PotionEffect.of(PotionEffectTypes.JUMP_BOOST, InstanceImpl.NO_JUMP_AMPLIFIER, 1000000));
+            return list;
+        });
+    }
+
+    private void unfreeze(final ServerPlayer player) {
+        player.offer(Keys.WALKING_SPEED, PlayerStateProfile.DEFAULT_WALKING_SPEED);
+        player.transform(Keys.POTION_EFFECTS, list -> {
+            list.removeIf(pe -> pe.type().equals(PotionEffectTypes.JUMP_BOOST.get()) && pe.amplifier() == InstanceImpl.NO_JUMP_AMPLIFIER);
+            return list;
+        });
+    }
+
+    /**
+     * Moves frozen players who were pushed, knocked or otherwise displaced
+     * back onto their spawn.
+     */
+    public void enforceFrozen() {
+        if (this.state.canPlayersMove()) {
+            return;
+        }
+        for (final ServerPlayer player : this.world().players()) {
+            final PlayerSession session = this.manager.sessionOf(player.uniqueId());
+            if (session != null && session.instance() == this && session.isPlayer()
+                    && this.roster.distanceSquaredToSpawn(session.slot(), player.position()) > 1) {
+                player.setPosition(this.roster.spawn(session.slot()));
+            }
         }
     }
 
-    private void resetPlayer(final ServerPlayer player) {
-        player.offer(Keys.HEALTH, 20d);
-        player.offer(Keys.FOOD_LEVEL, 20);
-        player.offer(Keys.SATURATION, 20d);
-        player.offer(Keys.EXHAUSTION, 20d);
-        player.remove(Keys.POTION_EFFECTS);
-        player.inventory().clear();
-        player.hideBossBar(this.bossBar);
+    public Set<UUID> getCrew() {
+        return this.crew;
+    }
+
+    /**
+     * Removes crew members that aren't part of the running overtime. Crew in
+     * unloaded chunks can't be found when overtime is cleaned up, they are
+     * removed here once their chunk is loaded again.
+     */
+    void removeStrayCrew(final Collection<? extends Entity> entities) {
+        for (final Entity entity : entities) {
+            if (!this.crew.contains(entity.uniqueId())) {
+                entity.remove();
+            }
+        }
+    }
+
+    public InstanceBroadcast getBroadcast() {
+        return this.broadcast;
+    }
+
+    PlayerRoster roster() {
+        return this.roster;
     }
 
     public int playersLeft() {
-        return this.playerSpawns.size() - this.playerDeaths.size();
+        return this.roster.aliveCount();
     }
 
     private int spawns() {
-        return this.playerSpawns.size() + this.unusedSpawns.size();
+        return this.roster.size() + this.unusedSpawns.size();
     }
 
     public void advance() {
@@ -273,6 +415,7 @@ public final class InstanceImpl implements Instance {
     }
 
     void advanceTo(State state) {
+        this.checkMainThread();
         Royale.getInstance().getPlugin().logger().debug("Advancing {} from {} to {}", this.worldKey.formatted(), this.state.name(), state.name());
         if (this.state == state) {
             throw new IllegalArgumentException("The instance is already at " + state.name());
@@ -280,20 +423,45 @@ public final class InstanceImpl implements Instance {
         if (this.state == State.STOPPED) {
             throw new IllegalStateException("The instance is stopped");
         }
-        if (this.state == State.STARTING && this.playerSpawns.size() <= 1) {
+        if (this.state == State.STARTING && this.roster.size() <= 1) {
             state = State.ENDING;
         }
 
+        final State previous = this.state;
         this.onStateAdvance(state);
         this.state = state;
+        this.manager.refreshListeners();
+        if (!previous.canPlayersMove() && state.canPlayersMove()) {
+            for (final ServerPlayer player : this.world().players()) {
+                if (this.isPlayerAlive(player)) {
+                    this.unfreeze(player);
+                }
+            }
+        }
         this.updateSign();
     }
 
+    /**
+     * Schedules the tasks of the initial state, once the instance has been mutated.
+     */
+    void initialize() {
+        this.onStateAdvance(this.state);
+    }
+
     private void onStateAdvance(final State next) {
 
 
         this.stopTasks();
         switch (next) {
+            case IDLE:
+                this.tasks.add(Sponge.server().scheduler().submit(Task.builder()
+                        .plugin(Royale.getInstance().getPlugin())
+                        .execute(new IdleTask(this))
+                        .interval(1, TimeUnit.SECONDS)
+                        .name(Constants.Plugin.ID + " - Idle - " + this.worldKey)
+                        .build()
+                ).uniqueId());
+                break;
             case STARTING:
                 this.tasks.add(Sponge.server().scheduler().submit(Task.builder()
                         .plugin(Royale.getInstance().getPlugin())
@@ -306,7 +474,7 @@ public final class InstanceImpl implements Instance {
             case RUNNING:
                 this.tasks.add(Sponge.server().scheduler().submit(Task.builder()
                         .plugin(Royale.getInstance().getPlugin())
-                        .execute(new ProgressTask(this, bossBar))
+                        .execute(new ProgressTask(this, this.bossBar))
                         .interval(1, TimeUnit.SECONDS)
                         .name(Constants.Plugin.ID + " - Progress Countdown - " + this.worldKey)
                         .build()
@@ -315,7 +483,7 @@ public final class InstanceImpl implements Instance {
             case OVERTIME:
                 this.tasks.add(Sponge.server().scheduler().submit(Task.builder()
                         .plugin(Royale.getInstance().getPlugin())
-                        .execute(new OvertimeTask(this, bossBar))
+                        .execute(new OvertimeTask(this, this.bossBar))
                         .interval(1, TimeUnit.SECONDS)
                         .name(Constants.Plugin.ID + " - Overtime - " + this.worldKey)
                         .build()
@@ -332,19 +500,19 @@ public final class InstanceImpl implements Instance {
                 break;
             case STOPPED:
                 this.unloading = true;
+                // The new instance picks the signs up from the sign link registry
                 Royale.getInstance().getInstanceManager().unloadInstance(this.worldKey)
-                        .thenComposeAsync(b -> Royale.getInstance().getInstanceManager().createInstance(this.worldKey, this.instanceType, false), Royale.getInstance().getTaskExecutorService())
-                        .thenAcceptAsync(instance -> {
-                            for (ServerLocation location : this.signLoc) {
-                                location.blockEntity()
-                                        .filter(blockEntity -> blockEntity instanceof Sign)
-                                        .ifPresent(sign -> instance.link((Sign) sign));
-                            }
-                        }, Royale.getInstance().getTaskExecutorService());
+                        .thenComposeAsync(b -> Royale.getInstance().getInstanceManager().createInstance(this.worldKey, this.instanceType, false), Royale.getInstance().getTaskExecutorService());
                 break;
         }
     }
 
+    private void checkMainThread() {
+        if (!Sponge.server().onMainThread()) {
+            throw new IllegalStateException("Instance " + this.worldKey.formatted() + " can only be modified on the main thread");
+        }
+    }
+
     private void stopTasks() {
         this.tasks.removeIf(uuid -> {
             final Optional<ScheduledTask> taskOpt = Sponge.server().scheduler().findTask(uuid);
@@ -399,25 +567,71 @@ public final class InstanceImpl implements Instance {
         this.unloading = unloading;
     }
 
+    public @Nullable SafeSpawnGrid getSafeSpawnGrid() {
+        return this.safeSpawnGrid;
+    }
+
+    public void setSafeSpawnGrid(@Nullable final SafeSpawnGrid safeSpawnGrid) {
+        this.safeSpawnGrid = safeSpawnGrid;
+    }
+
     @Override
     public boolean link(Sign sign) {
+        this.manager.signLinks().register(sign.serverLocation(), this);
         if (this.signLoc.add(sign.serverLocation())) {
-            this.updateSign0(sign);
+            this.writeSign(sign, this.renderSign());
             return true;
         }
         return false;
     }
 
+    void unlink(final ServerLocation location) {
+        this.signLoc.remove(location);
+    }
+
+    /**
+     * Marks the linked signs as outdated. They are re-rendered once on the
+     * next tick, no matter how often this is called until then.
+     */
     void updateSign() {
-        for (ServerLocation location : this.signLoc) {
-            location.worldIfAvailable().flatMap(w -> location.blockEntity()).ifPresent(this::updateSign0);
+        if (this.signDirty || this.signLoc.isEmpty()) {
+            return;
+        }
+        this.signDirty = true;
+        Sponge.server().scheduler().submit(Task.builder()
+                .plugin(Royale.getInstance().getPlugin())
+                .execute(this::flushSign)
+                .name(Constants.Plugin.ID + " - Sign Refresh - " + this.worldKey)
+                .build()
+        );
+    }
+
+    /**
+     * Re-renders the linked signs right away, for when there is no next tick
+     * to wait for.
+     */
+    void flushSign() {
+        this.signDirty = false;
+        if (this.signLoc.isEmpty()) {
+            return;
+        }
+        final List<Component> lines = this.renderSign();
+        for (final ServerLocation location : this.signLoc) {
+            location.worldIfAvailable().flatMap(w -> location.blockEntity()).ifPresent(sign -> this.writeSign(sign, lines));
         }
     }
 
-    private void updateSign0(org.spongepowered.api.block.entity.BlockEntity sign) {
+    private void writeSign(final org.spongepowered.api.block.entity.BlockEntity sign, final List<Component> lines) {
+        if (sign.get(Keys.SIGN_LINES).map(lines::equals).orElse(false)) {
+            return;
+        }
+        sign.offer(Keys.SIGN_LINES, lines);
+    }
+
+    private List<Component> renderSign() {
         Component statusLine;
         Component headerLine;
-        final int playersTotal = this.playerSpawns.size();
+        final int playersTotal = this.roster.size();
         switch (this.state) {
             case ENDING:
                 headerLine = Component.text("Royale", NamedTextColor.AQUA);
@@ -443,12 +657,6 @@ public final class InstanceImpl implements Instance {
                 headerLine = Component.text("Royale", NamedTextColor.AQUA);
                 statusLine = Component.text(this.state.name());
         }
-        sign.transform(Keys.SIGN_LINES, lines -> {
-            lines.set(0, headerLine);
-            lines.set(1, Component.text(this.worldKey.asString()));
-            lines.set(2, statusLine);
-            lines.set(3, Component.text(this.instanceType.name()));
-            return lines;
-        });
+        return Arrays.asList(headerLine, Component.text(this.worldKey.asString()), statusLine, Component.text(this.instanceType.name()));
     }
 }
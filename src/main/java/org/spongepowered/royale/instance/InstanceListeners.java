@@ -0,0 +1,253 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.transaction.BlockTransaction;
+import org.spongepowered.api.block.transaction.Operations;
+import org.spongepowered.api.data.Keys;
+import org.spongepowered.api.data.Transaction;
+import org.spongepowered.api.effect.potion.PotionEffect;
+import org.spongepowered.api.effect.potion.PotionEffectTypes;
+import org.spongepowered.api.entity.living.player.gamemode.GameModes;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.block.InteractBlockEvent;
+import org.spongepowered.api.event.entity.ChangeEntityWorldEvent;
+import org.spongepowered.api.event.entity.DamageEntityEvent;
+import org.spongepowered.api.event.entity.DestructEntityEvent;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.royale.Royale;
+import org.spongepowered.royale.instance.gen.SafeSpawnGrid;
+import org.spongepowered.royale.metrics.LatencyHistogram;
+import org.spongepowered.royale.metrics.ListenerMetrics;
+
+import java.util.Collection;
+
+/**
+ * Listeners which only have work to do while at least one instance needs them.
+ *
+ * <p>Each group is registered with the event manager when the first instance
+ * requiring it shows up and unregistered once none does, so servers without
+ * Royale rounds going on don't pay for Royale checks.</p>
+ */
+public final class InstanceListeners {
+
+    private final Group membership;
+    private final Group damage;
+    private final Group interaction;
+
+    InstanceListeners(final InstanceManagerImpl instances, final ListenerMetrics metrics) {
+        this.membership = new Group(new Membership(instances, metrics));
+        this.damage = new Group(new Damage(instances, metrics));
+        this.interaction = new Group(new Interaction(instances, metrics));
+    }
+
+    /**
+     * Registers or unregisters each group depending on what the given instances
+     * currently enforce. Movement is frozen through player attributes, so no
+     * group is tied to {@link State#canPlayersMove()}.
+     */
+    void refresh(final Collection<InstanceImpl> instances) {
+        boolean protectDamage = false;
+        boolean protectInteraction = false;
+        for (final InstanceImpl instance : instances) {
+            protectDamage |= !instance.getState().canPlayersTakeDamage();
+            protectInteraction |= !instance.getState().canPlayersInteract();
+        }
+
+        this.membership.setRegistered(!instances.isEmpty());
+        this.damage.setRegistered(protectDamage);
+        this.interaction.setRegistered(protectInteraction);
+    }
+
+    private static final class Group {
+
+        private final Object listener;
+        private boolean registered;
+
+        Group(final Object listener) {
+            this.listener = listener;
+        }
+
+        void setRegistered(final boolean registered) {
+            if (this.registered == registered) {
+                return;
+            }
+            if (registered) {
+                Sponge.eventManager().registerListeners(Royale.getInstance().getPlugin(), this.listener);
+            } else {
+                Sponge.eventManager().unregisterListeners(this.listener);
+            }
+            this.registered = registered;
+        }
+    }
+
+    /**
+     * Keeps track of players leaving or dying inside an instance, and of the
+     * terrain the overtime crew spawns on.
+     */
+    public static final class Membership {
+
+        private final InstanceManagerImpl instances;
+        private final LatencyHistogram moveTimer;
+
+        Membership(final InstanceManagerImpl instances, final ListenerMetrics metrics) {
+            this.instances = instances;
+            this.moveTimer = metrics.histogram("InstanceListeners.Membership#onMoveEntity");
+        }
+
+        @Listener(order = Order.LAST)
+        public void onMoveEntity(final MoveEntityEvent event, @Getter("entity") final ServerPlayer player) {
+            ListenerMetrics.timed(this.moveTimer, () -> {
+                // Waiting players are frozen through their attributes, only world changes are of interest here
+                if (!(event instanceof ChangeEntityWorldEvent)) {
+                    return;
+                }
+
+                final PlayerSession session = this.instances.sessionOf(player.uniqueId());
+
+                // We only care about players leaving the world of their instance
+                if (session == null || ((ChangeEntityWorldEvent) event).destinationWorld().key().equals(session.instance().getWorldKey())) {
+                    return;
+                }
+
+                // Spectators simply stop spectating
+                if (!session.isPlayer()) {
+                    session.instance().removeSpectator(player);
+                    return;
+                }
+
+                if (session.isAlive()) {
+                    session.instance().removePlayer(player);
+                }
+                session.instance().release(player);
+                Sponge.server().serverScoreboard().ifPresent(player::setScoreboard);
+                player.offer(Keys.GAME_MODE, GameModes.SURVIVAL.get());
+            });
+        }
+
+        @Listener(order = Order.LAST)
+        public void onDestructEntity(final DestructEntityEvent.Death event, @Getter("entity") final ServerPlayer player) {
+            final PlayerSession session = this.instances.sessionOf(player.uniqueId());
+
+            if (session != null && session.isAlive()) {
+                session.instance().removePlayer(player);
+                event.setCancelled(true);
+                player.transform(Keys.POTION_EFFECTS, list -> {
+                    list.add(PotionEffect.of(PotionEffectTypes.NIGHT_VISION, 1, 1000000000));
+                    return list;
+                });
+            }
+        }
+
+        @Listener(order = Order.POST)
+        public void onChangeBlock(final ChangeBlockEvent.All event) {
+            final InstanceImpl instance = this.instances.instanceOf(event.world());
+            if (instance == null) {
+                return;
+            }
+
+            final SafeSpawnGrid grid = instance.getSafeSpawnGrid();
+            if (grid == null) {
+                return;
+            }
+
+            for (final BlockTransaction transaction : event.transactions()) {
+                if (transaction.isValid()) {
+                    final Vector3i pos = transaction.original().position();
+                    grid.invalidate(pos.x(), pos.y(), pos.z());
+                }
+            }
+        }
+    }
+
+    /**
+     * Enforces {@link State#canPlayersTakeDamage()}.
+     */
+    public static final class Damage {
+
+        private final InstanceManagerImpl instances;
+        private final LatencyHistogram damageTimer;
+
+        Damage(final InstanceManagerImpl instances, final ListenerMetrics metrics) {
+            this.instances = instances;
+            this.damageTimer = metrics.histogram("InstanceListeners.Damage#onDamagePlayer");
+        }
+
+        @Listener
+        public void onDamagePlayer(final DamageEntityEvent event, @Getter("entity") final ServerPlayer player) {
+            ListenerMetrics.timed(this.damageTimer, () -> {
+                final InstanceImpl instance = this.instances.instanceOf(player.world());
+                if (instance != null && !instance.getState().canPlayersTakeDamage()) {
+                    event.setCancelled(true);
+                }
+            });
+        }
+    }
+
+    /**
+     * Enforces {@link State#canPlayersInteract()}.
+     */
+    public static final class Interaction {
+
+        private final InstanceManagerImpl instances;
+        private final LatencyHistogram breakTimer;
+        private final LatencyHistogram interactTimer;
+
+        Interaction(final InstanceManagerImpl instances, final ListenerMetrics metrics) {
+            this.instances = instances;
+            this.breakTimer = metrics.histogram("InstanceListeners.Interaction#onBreak");
+            this.interactTimer = metrics.histogram("InstanceListeners.Interaction#onInteract");
+        }
+
+        @Listener
+        public void onBreak(final ChangeBlockEvent.All event, @Root final ServerPlayer player) {
+            ListenerMetrics.timed(this.breakTimer, () -> {
+                final PlayerSession session = this.instances.sessionOf(player.uniqueId());
+                if (session != null && session.isPlayer() && !session.instance().getState().canPlayersInteract()
+                        && session.instance() == this.instances.instanceOf(player.world())) {
+                    event.transactions(Operations.BREAK.get()).forEach(Transaction::invalidate);
+                }
+            });
+        }
+
+        @Listener
+        public void onInteract(final InteractBlockEvent.Secondary event, @Root final ServerPlayer player) {
+            ListenerMetrics.timed(this.interactTimer, () -> {
+                final PlayerSession session = this.instances.sessionOf(player.uniqueId());
+                if (session != null && session.isPlayer() && !session.instance().getState().canPlayersInteract()
+                        && session.instance() == this.instances.instanceOf(player.world())) {
+                    event.setCancelled(true);
+                }
+            });
+        }
+    }
+}
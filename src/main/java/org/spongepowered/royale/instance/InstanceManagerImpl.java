@@ -25,6 +25,7 @@
 package org.spongepowered.royale.instance;
 
 import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.Keys;
@@ -37,27 +38,47 @@ import org.spongepowered.royale.Constants;
 import org.spongepowered.royale.Royale;
 import org.spongepowered.royale.api.Instance;
 import org.spongepowered.royale.api.InstanceManager;
+import org.spongepowered.royale.api.RoyaleKeys;
 import org.spongepowered.royale.instance.exception.InstanceAlreadyExistsException;
 import org.spongepowered.royale.instance.exception.UnknownInstanceException;
 import org.spongepowered.royale.instance.gen.InstanceMutatorPipeline;
+import org.spongepowered.royale.instance.scoreboard.InstanceScoreboard;
+import org.spongepowered.royale.metrics.ListenerMetrics;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class InstanceManagerImpl implements InstanceManager {
 
-    private final Map<ResourceKey, InstanceImpl> instances = new HashMap<>();
+    // Written on the main thread only, read from anywhere
+    private final Map<ResourceKey, InstanceImpl> instances = new ConcurrentHashMap<>();
+    // Main thread only, routes listener lookups without hashing keys or allocating
+    private final Map<ServerWorld, InstanceImpl> worlds = new IdentityHashMap<>();
+    // Main thread only, every player or spectator of any instance
+    private final Map<UUID, PlayerSession> sessions = new HashMap<>();
+    private final InstanceListeners listeners;
+    private final SignLinkRegistry signLinks = new SignLinkRegistry(this);
+    // Main thread only, outlives the instances so rounds in the same arena share a scoreboard
+    private final Map<ResourceKey, InstanceScoreboard> scoreboards = new HashMap<>();
+
+    public InstanceManagerImpl(final ListenerMetrics metrics) {
+        this.listeners = new InstanceListeners(this, metrics);
+    }
 
     @Override
     public CompletableFuture<Instance> createInstance(final ResourceKey key, final InstanceType type, final boolean force) {
         Objects.requireNonNull(key, "key must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
+        // World mutation has to happen on the main thread
         return Sponge.server().worldManager().loadWorld(key).thenApplyAsync(w -> {
             if (w.border().diameter() >= 100000) {
                 // Safety measure to prevent people from hanging the server
@@ -65,8 +86,8 @@ public final class InstanceManagerImpl implements InstanceManager {
             }
             w.properties().setSerializationBehavior(SerializationBehavior.AUTOMATIC_METADATA_ONLY);
 
-            final InstanceImpl instance = new InstanceImpl(w, type);
-            final InstanceImpl previous = this.instances.putIfAbsent(w.key(), instance);
+            // Checked before constructing, the new instance takes over the scoreboard of the arena
+            final InstanceImpl previous = this.instances.get(w.key());
             if (previous != null) {
                 if (!force) {
                     throw new InstanceAlreadyExistsException(key.formatted());
@@ -74,11 +95,18 @@ public final class InstanceManagerImpl implements InstanceManager {
                 if (previous.getState() != State.IDLE) {
                     throw new IllegalStateException("Instance is not IDLE");
                 }
-                this.instances.replace(w.key(), instance);
             }
+            final InstanceImpl instance = new InstanceImpl(this, w, type);
+            this.instances.put(w.key(), instance);
+            this.worlds.put(w, instance);
 
             final InstanceMutatorPipeline pipeline = type.getMutatorPipeline();
             pipeline.mutate(instance);
+            instance.initialize();
+            this.refreshListeners();
+            this.signLinks.bindLoaded(instance);
+            // Chunks loaded before the instance existed aren't seen by the chunk listener
+            instance.removeStrayCrew(w.entities(entity -> entity.get(RoyaleKeys.CREW).isPresent()));
             return instance;
         }, Royale.getInstance().getTaskExecutorService());
     }
@@ -127,8 +155,12 @@ public final class InstanceManagerImpl implements InstanceManager {
         instance.kickAll();
 
         this.instances.remove(instance.getWorldKey());
+        this.worlds.remove(world);
+        this.sessions.values().removeIf(session -> session.instance() == instance);
+        this.refreshListeners();
 
-        instance.updateSign();
+        // The world is about to go away, there is no next tick for the signs to wait for
+        instance.flushSign();
 
         return Sponge.server().worldManager().unloadWorld(world);
     }
@@ -139,6 +171,97 @@ public final class InstanceManagerImpl implements InstanceManager {
         return Optional.ofNullable(this.instances.get(key));
     }
 
+    /**
+     * Resolves the instance running in the given world. Meant for listeners
+     * that fire for every world on the server.
+     *
+     * @return The instance, or {@code null} if the world is not an instance
+     */
+    public @Nullable InstanceImpl instanceOf(final ServerWorld world) {
+        if (this.worlds.isEmpty()) {
+            return null;
+        }
+        return this.worlds.get(world);
+    }
+
+    /**
+     * Creates the instances of every join sign linked before the last shutdown.
+     * Their signs are linked again as soon as their chunks are loaded.
+     */
+    public void restoreSignLinks() {
+        for (final Map.Entry<ResourceKey, ResourceKey> entry : this.signLinks.load().entrySet()) {
+            if (this.instances.containsKey(entry.getKey())) {
+                continue;
+            }
+            final Optional<InstanceType> type = Constants.Plugin.INSTANCE_TYPE.get().findValue(entry.getValue());
+            if (!type.isPresent()) {
+                Royale.getInstance().getPlugin().logger().warn("Unknown instance type [{}] linked to instance [{}]", entry.getValue().formatted(),
+                        entry.getKey().formatted());
+                continue;
+            }
+            this.createInstance(entry.getKey(), type.get(), false).exceptionally(e -> {
+                Royale.getInstance().getPlugin().logger().error("Unable to restore instance [{}]", entry.getKey().formatted(), e);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Writes out sign link changes that are still waiting to be saved.
+     */
+    public void flushSignLinks() {
+        this.signLinks.flush();
+    }
+
+    InstanceScoreboard scoreboardFor(final InstanceImpl instance) {
+        final InstanceScoreboard existing = this.scoreboards.get(instance.getWorldKey());
+        if (existing != null) {
+            existing.reset(instance);
+            return existing;
+        }
+        final InstanceScoreboard scoreboard = new InstanceScoreboard(instance);
+        this.scoreboards.put(instance.getWorldKey(), scoreboard);
+        return scoreboard;
+    }
+
+    SignLinkRegistry signLinks() {
+        return this.signLinks;
+    }
+
+    /**
+     * Resolves the instance the given player takes part in or spectates,
+     * regardless of the world they are currently in.
+     *
+     * @return The session, or {@code null} if the player is in no instance
+     */
+    public @Nullable PlayerSession sessionOf(final UUID player) {
+        if (this.sessions.isEmpty()) {
+            return null;
+        }
+        return this.sessions.get(player);
+    }
+
+    PlayerSession bindSession(final UUID player, final InstanceImpl instance, final PlayerSession.Role role, final int slot) {
+        final PlayerSession session = new PlayerSession(instance, role, slot);
+        this.sessions.put(player, session);
+        return session;
+    }
+
+    void unbindSession(final UUID player, final InstanceImpl instance) {
+        final PlayerSession session = this.sessions.get(player);
+        if (session != null && session.instance() == instance) {
+            this.sessions.remove(player);
+        }
+    }
+
+    /**
+     * Brings the registered {@link InstanceListeners} in line with the current
+     * instances and their states. Must be called on the main thread.
+     */
+    void refreshListeners() {
+        this.listeners.refresh(this.worlds.values());
+    }
+
     @Override
     public Collection<Instance> getAll() {
         return Collections.unmodifiableCollection(this.instances.values());
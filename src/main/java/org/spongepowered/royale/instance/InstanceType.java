@@ -33,10 +33,13 @@ import org.spongepowered.api.util.ResourceKeyedBuilder;
 import org.spongepowered.math.vector.Vector3i;
 import org.spongepowered.royale.Constants;
 import org.spongepowered.royale.instance.configuration.InstanceTypeConfiguration;
+import org.spongepowered.royale.instance.crew.CrewArchetype;
+import org.spongepowered.royale.instance.crew.CrewProfile;
 import org.spongepowered.royale.instance.gen.InstanceMutator;
 import org.spongepowered.royale.instance.gen.InstanceMutatorPipeline;
 import org.spongepowered.royale.template.ComponentTemplate;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -54,8 +57,11 @@ public final class InstanceType implements ResourceKeyed, Nameable {
     private String name;
     private ComponentTemplate nameTemplate, roundStartTemplate, roundEndTemplate;
     private final List<ItemStackSnapshot> defaultItems;
+    private final List<CrewProfile> crew;
+    private final PlayerStateProfile playerState;
     private long roundStartLength, roundLength, roundEndLength;
-    private int automaticStartPlayerCount;
+    private int automaticStartPlayerCount, spectatorCapacity;
+    private boolean dropInventoryOnElimination, lightweightSpectators;
 
     private InstanceType(final Builder builder) {
         this.key = builder.key;
@@ -64,12 +70,18 @@ public final class InstanceType implements ResourceKeyed, Nameable {
         this.mutatorPipeline = new InstanceMutatorPipeline();
         this.mutatorPipeline.getMutators().addAll(builder.mutators);
         this.defaultItems = builder.defaultItems;
+        this.playerState = new PlayerStateProfile(this.defaultItems);
         this.roundStartTemplate = builder.roundStartTemplate;
         this.roundStartLength = builder.roundStartLength;
         this.roundLength = builder.roundLength;
         this.roundEndTemplate = builder.roundEndTemplate;
         this.roundEndLength = builder.roundEndLength;
         this.automaticStartPlayerCount = builder.automaticStartPlayerCount;
+        this.dropInventoryOnElimination = builder.dropInventoryOnElimination;
+        this.spectatorCapacity = builder.spectatorCapacity;
+        this.lightweightSpectators = builder.lightweightSpectators;
+        this.crew = new ArrayList<>();
+        builder.crew.stream().map(CrewProfile::new).forEach(this.crew::add);
     }
 
     public static Builder builder() {
@@ -114,10 +126,30 @@ public final class InstanceType implements ResourceKeyed, Nameable {
         return this.automaticStartPlayerCount;
     }
 
+    public boolean isDropInventoryOnElimination() {
+        return this.dropInventoryOnElimination;
+    }
+
+    public int getSpectatorCapacity() {
+        return this.spectatorCapacity;
+    }
+
+    public boolean isLightweightSpectators() {
+        return this.lightweightSpectators;
+    }
+
     public List<ItemStackSnapshot> getDefaultItems() {
         return this.defaultItems;
     }
 
+    public PlayerStateProfile getPlayerState() {
+        return this.playerState;
+    }
+
+    public List<CrewProfile> getCrew() {
+        return this.crew;
+    }
+
     public InstanceMutatorPipeline getMutatorPipeline() {
         return this.mutatorPipeline;
     }
@@ -136,6 +168,11 @@ public final class InstanceType implements ResourceKeyed, Nameable {
         this.roundLength = value.round.length;
         this.roundEndLength = value.round.end;
         this.automaticStartPlayerCount = value.round.automaticStartPlayerCount;
+        this.dropInventoryOnElimination = value.round.dropInventoryOnElimination;
+        this.spectatorCapacity = value.round.spectatorCapacity;
+        this.lightweightSpectators = value.round.lightweightSpectators;
+        this.crew.clear();
+        value.overtime.crew.stream().map(CrewProfile::new).forEach(this.crew::add);
     }
 
     public void injectIntoConfig(final InstanceTypeConfiguration config) {
@@ -153,6 +190,11 @@ public final class InstanceType implements ResourceKeyed, Nameable {
         config.round.end = this.roundEndLength;
         config.round.endTemplate = this.roundEndTemplate;
         config.round.automaticStartPlayerCount = this.automaticStartPlayerCount;
+        config.round.dropInventoryOnElimination = this.dropInventoryOnElimination;
+        config.round.spectatorCapacity = this.spectatorCapacity;
+        config.round.lightweightSpectators = this.lightweightSpectators;
+
+        config.overtime.crew = this.crew.stream().map(CrewProfile::getArchetype).collect(Collectors.toList());
     }
 
     @Override
@@ -185,6 +227,10 @@ public final class InstanceType implements ResourceKeyed, Nameable {
                 .add("roundLength=" + this.roundLength)
                 .add("roundEndLength=" + this.roundEndLength)
                 .add("automaticPlayerStartCount=" + this.automaticStartPlayerCount)
+                .add("dropInventoryOnElimination=" + this.dropInventoryOnElimination)
+                .add("spectatorCapacity=" + this.spectatorCapacity)
+                .add("lightweightSpectators=" + this.lightweightSpectators)
+                .add("crew=" + this.crew.size())
                 .add("mutatorPipeline=" + this.mutatorPipeline)
                 .toString();
     }
@@ -196,8 +242,10 @@ public final class InstanceType implements ResourceKeyed, Nameable {
         ComponentTemplate nameTemplate, roundStartTemplate, roundEndTemplate;
         List<ItemStackSnapshot> defaultItems;
         long roundStartLength, roundLength, roundEndLength;
-        int automaticStartPlayerCount;
+        int automaticStartPlayerCount, spectatorCapacity;
+        boolean dropInventoryOnElimination, lightweightSpectators;
         Set<InstanceMutator> mutators;
+        List<CrewArchetype> crew;
 
         public Builder() {
             this.reset();
@@ -216,6 +264,10 @@ public final class InstanceType implements ResourceKeyed, Nameable {
             this.roundLength = value.roundLength;
             this.roundEndLength = value.roundEndLength;
             this.automaticStartPlayerCount = value.automaticStartPlayerCount;
+            this.dropInventoryOnElimination = value.dropInventoryOnElimination;
+            this.spectatorCapacity = value.spectatorCapacity;
+            this.lightweightSpectators = value.lightweightSpectators;
+            this.crew = value.crew.stream().map(CrewProfile::getArchetype).collect(Collectors.toList());
             return this;
         }
 
@@ -233,6 +285,10 @@ public final class InstanceType implements ResourceKeyed, Nameable {
             this.roundLength = value.round.length;
             this.roundEndLength = value.round.end;
             this.automaticStartPlayerCount = value.round.automaticStartPlayerCount;
+            this.dropInventoryOnElimination = value.round.dropInventoryOnElimination;
+            this.spectatorCapacity = value.round.spectatorCapacity;
+            this.lightweightSpectators = value.round.lightweightSpectators;
+            this.crew = new LinkedList<>(value.overtime.crew);
             return this;
         }
 
@@ -248,6 +304,10 @@ public final class InstanceType implements ResourceKeyed, Nameable {
             this.roundLength = Constants.Map.Round.DEFAULT_LENGTH;
             this.roundEndLength = Constants.Map.Round.DEFAULT_END_LENGTH;
             this.automaticStartPlayerCount = Constants.Map.Round.DEFAULT_AUTOMATIC_START_PLAYER_COUNT;
+            this.dropInventoryOnElimination = Constants.Map.Round.DEFAULT_DROP_INVENTORY_ON_ELIMINATION;
+            this.spectatorCapacity = Constants.Map.Round.DEFAULT_SPECTATOR_CAPACITY;
+            this.lightweightSpectators = Constants.Map.Round.DEFAULT_LIGHTWEIGHT_SPECTATORS;
+            this.crew = new LinkedList<>(Constants.Map.Overtime.DEFAULT_CREW);
             return this;
         }
 
@@ -315,6 +375,27 @@ public final class InstanceType implements ResourceKeyed, Nameable {
             return this;
         }
 
+        public Builder dropInventoryOnElimination(final boolean drop) {
+            this.dropInventoryOnElimination = drop;
+            return this;
+        }
+
+        public Builder spectatorCapacity(final int capacity) {
+            this.spectatorCapacity = capacity;
+            return this;
+        }
+
+        public Builder lightweightSpectators(final boolean lightweight) {
+            this.lightweightSpectators = lightweight;
+            return this;
+        }
+
+        public Builder crew(final CrewArchetype archetype) {
+            Objects.requireNonNull(archetype);
+            this.crew.add(archetype);
+            return this;
+        }
+
         public Builder mutator(final ResourceKey key) {
             Objects.requireNonNull(key);
             final Optional<InstanceMutator> mutator = Sponge.server().registry(Constants.Plugin.INSTANCE_MUTATOR).findValue(key);
@@ -0,0 +1,184 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * The participants of an instance, each holding a small int slot.
+ *
+ * <p>Slots of players who left are handed out again before new ones are
+ * opened, so the arrays stay as large as the biggest round seen. Only used
+ * on the main thread.</p>
+ */
+final class PlayerRoster {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private UUID[] ids = new UUID[PlayerRoster.INITIAL_CAPACITY];
+    private double[] spawnX = new double[PlayerRoster.INITIAL_CAPACITY];
+    private double[] spawnY = new double[PlayerRoster.INITIAL_CAPACITY];
+    private double[] spawnZ = new double[PlayerRoster.INITIAL_CAPACITY];
+    private int[] free = new int[PlayerRoster.INITIAL_CAPACITY];
+    private int freeCount;
+    private int opened;
+    private final BitSet occupied = new BitSet();
+    private final BitSet alive = new BitSet();
+    private int size;
+    private final Collection<UUID> view = new IdView();
+
+    /**
+     * Adds an alive participant.
+     *
+     * @return The slot of the participant
+     */
+    int add(final UUID id, final Vector3d spawn) {
+        final int slot;
+        if (this.freeCount > 0) {
+            slot = this.free[--this.freeCount];
+        } else {
+            slot = this.opened++;
+            if (slot == this.ids.length) {
+                this.grow();
+            }
+        }
+        this.ids[slot] = id;
+        this.spawnX[slot] = spawn.x();
+        this.spawnY[slot] = spawn.y();
+        this.spawnZ[slot] = spawn.z();
+        this.occupied.set(slot);
+        this.alive.set(slot);
+        this.size++;
+        return slot;
+    }
+
+    void remove(final int slot) {
+        if (!this.occupied.get(slot)) {
+            throw new IllegalArgumentException("Slot " + slot + " is not occupied");
+        }
+        this.ids[slot] = null;
+        this.occupied.clear(slot);
+        this.alive.clear(slot);
+        this.free[this.freeCount++] = slot;
+        this.size--;
+    }
+
+    void kill(final int slot) {
+        this.alive.clear(slot);
+    }
+
+    boolean isAlive(final int slot) {
+        return this.alive.get(slot);
+    }
+
+    UUID id(final int slot) {
+        return this.ids[slot];
+    }
+
+    Vector3d spawn(final int slot) {
+        return new Vector3d(this.spawnX[slot], this.spawnY[slot], this.spawnZ[slot]);
+    }
+
+    double distanceSquaredToSpawn(final int slot, final Vector3d position) {
+        final double dx = position.x() - this.spawnX[slot];
+        final double dy = position.y() - this.spawnY[slot];
+        final double dz = position.z() - this.spawnZ[slot];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    int aliveCount() {
+        return this.alive.cardinality();
+    }
+
+    /**
+     * @return The only participant still alive, or {@code null} if there are none or several
+     */
+    @Nullable UUID lastAlive() {
+        final int first = this.alive.nextSetBit(0);
+        if (first == -1 || this.alive.nextSetBit(first + 1) != -1) {
+            return null;
+        }
+        return this.ids[first];
+    }
+
+    /**
+     * @return A live, unmodifiable view of the participant ids
+     */
+    Collection<UUID> ids() {
+        return this.view;
+    }
+
+    private void grow() {
+        final int capacity = this.ids.length * 2;
+        this.ids = Arrays.copyOf(this.ids, capacity);
+        this.spawnX = Arrays.copyOf(this.spawnX, capacity);
+        this.spawnY = Arrays.copyOf(this.spawnY, capacity);
+        this.spawnZ = Arrays.copyOf(this.spawnZ, capacity);
+        this.free = Arrays.copyOf(this.free, capacity);
+    }
+
+    private final class IdView extends AbstractCollection<UUID> {
+
+        @Override
+        public Iterator<UUID> iterator() {
+            return new Iterator<UUID>() {
+                private int next = PlayerRoster.this.occupied.nextSetBit(0);
+
+                @Override
+                public boolean hasNext() {
+                    return this.next != -1;
+                }
+
+                @Override
+                public UUID next() {
+                    if (this.next == -1) {
+                        throw new NoSuchElementException();
+                    }
+                    final UUID id = PlayerRoster.this.ids[this.next];
+                    this.next = PlayerRoster.this.occupied.nextSetBit(this.next + 1);
+                    return id;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return PlayerRoster.this.size;
+        }
+    }
+}
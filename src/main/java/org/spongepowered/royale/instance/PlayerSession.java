@@ -0,0 +1,70 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance;
+
+/**
+ * Membership of a single player in an instance, indexed by their unique id
+ * in the {@link InstanceManagerImpl}. Only touched on the main thread.
+ */
+public final class PlayerSession {
+
+    private final InstanceImpl instance;
+    private final Role role;
+    private final int slot;
+
+    PlayerSession(final InstanceImpl instance, final Role role, final int slot) {
+        this.instance = instance;
+        this.role = role;
+        this.slot = slot;
+    }
+
+    public InstanceImpl instance() {
+        return this.instance;
+    }
+
+    public Role role() {
+        return this.role;
+    }
+
+    public boolean isPlayer() {
+        return this.role == Role.PLAYER;
+    }
+
+    public boolean isAlive() {
+        return this.role == Role.PLAYER && this.instance.roster().isAlive(this.slot);
+    }
+
+    /**
+     * @return The slot in the roster of the instance, or {@code -1} for spectators
+     */
+    int slot() {
+        return this.slot;
+    }
+
+    public enum Role {
+        PLAYER,
+        SPECTATOR
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance;
+
+import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.data.Keys;
+import org.spongepowered.api.entity.living.player.gamemode.GameMode;
+import org.spongepowered.api.entity.living.player.gamemode.GameModes;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The state players of an instance type are put into when they join, are
+ * eliminated or are moved out. Each variant is prepared once and applied to
+ * a player in a single data transaction.
+ */
+public final class PlayerStateProfile {
+
+    static final double DEFAULT_WALKING_SPEED = 0.1;
+
+    private final Map<Variant, DataManipulator.Immutable> states = new EnumMap<>(Variant.class);
+    private final List<ItemStackSnapshot> items;
+
+    PlayerStateProfile(final List<ItemStackSnapshot> items) {
+        this.items = items;
+        this.states.put(Variant.PARTICIPANT, PlayerStateProfile.prepare(GameModes.SURVIVAL.get()).asImmutable());
+        this.states.put(Variant.ELIMINATED, PlayerStateProfile.prepare(GameModes.SPECTATOR.get()).asImmutable());
+        // Lightweight spectators are vanished, whoever leaves the instance is visible again
+        this.states.put(Variant.EVICTED, PlayerStateProfile.prepare(GameModes.SURVIVAL.get()).set(Keys.VANISH, false).asImmutable());
+    }
+
+    private static DataManipulator.Mutable prepare(final GameMode gameMode) {
+        return DataManipulator.mutableOf()
+                .set(Keys.GAME_MODE, gameMode)
+                .set(Keys.WALKING_SPEED, PlayerStateProfile.DEFAULT_WALKING_SPEED)
+                .set(Keys.HEALTH, 20d)
+                .set(Keys.FOOD_LEVEL, 20)
+                .set(Keys.SATURATION, 20d)
+                .set(Keys.EXHAUSTION, 20d)
+                .set(Keys.POTION_EFFECTS, Collections.emptyList());
+    }
+
+    /**
+     * Resets the player to the given variant, clearing their inventory.
+     * Participants are handed the default items of the instance type.
+     */
+    void apply(final ServerPlayer player, final Variant variant) {
+        player.copyFrom(this.states.get(variant));
+        player.inventory().clear();
+        if (variant == Variant.PARTICIPANT) {
+            for (final ItemStackSnapshot item : this.items) {
+                player.inventory().offer(item.createStack());
+            }
+        }
+    }
+
+    enum Variant {
+        /**
+         * A player who just joined the round.
+         */
+        PARTICIPANT,
+        /**
+         * A player who was eliminated and stays to spectate.
+         */
+        ELIMINATED,
+        /**
+         * A player being moved out of the instance.
+         */
+        EVICTED
+    }
+}
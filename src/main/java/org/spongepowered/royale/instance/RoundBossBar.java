@@ -0,0 +1,117 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance;
+
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.world.server.ServerWorld;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The boss bar of a round, shared by the progress and overtime tasks.
+ *
+ * <p>Every change to a {@link BossBar} is a packet to each viewer, so this
+ * only passes on what a player would notice: progress in steps of one
+ * percent, and name and color when they differ. Viewers are tracked so the
+ * bar is only shown to players who just entered the world. Main thread
+ * only.</p>
+ */
+public final class RoundBossBar {
+
+    private static final int PROGRESS_STEPS = 100;
+
+    private final BossBar bossBar = BossBar.bossBar(Component.text("Royale"), 0.0f, BossBar.Color.GREEN, BossBar.Overlay.PROGRESS);
+    private final Set<UUID> viewers = new HashSet<>();
+    private final Set<UUID> present = new HashSet<>();
+    private final InstanceImpl instance;
+    private int progressStep = 0;
+
+    RoundBossBar(final InstanceImpl instance) {
+        this.instance = instance;
+    }
+
+    public void progress(final float progress) {
+        final int step = Math.round(Math.max(0, Math.min(progress, 1)) * RoundBossBar.PROGRESS_STEPS);
+        if (step != this.progressStep) {
+            this.progressStep = step;
+            this.bossBar.progress((float) step / RoundBossBar.PROGRESS_STEPS);
+        }
+    }
+
+    public void color(final BossBar.Color color) {
+        if (this.bossBar.color() != color) {
+            this.bossBar.color(color);
+        }
+    }
+
+    public void name(final Component name) {
+        if (!this.bossBar.name().equals(name)) {
+            this.bossBar.name(name);
+        }
+    }
+
+    /**
+     * Shows the bar to everyone in the world who doesn't see it yet and
+     * forgets viewers who have left it. Lightweight spectators never see it.
+     */
+    public void sync(final ServerWorld world) {
+        this.present.clear();
+        for (final ServerPlayer player : world.players()) {
+            if (this.instance.isLightweightSpectator(player)) {
+                continue;
+            }
+            this.present.add(player.uniqueId());
+            if (this.viewers.add(player.uniqueId())) {
+                player.showBossBar(this.bossBar);
+            }
+        }
+        if (this.viewers.size() > this.present.size()) {
+            this.viewers.removeIf(uniqueId -> {
+                if (this.present.contains(uniqueId)) {
+                    return false;
+                }
+                Sponge.server().player(uniqueId).ifPresent(player -> player.hideBossBar(this.bossBar));
+                return true;
+            });
+        }
+    }
+
+    public void hide(final ServerPlayer player) {
+        this.viewers.remove(player.uniqueId());
+        player.hideBossBar(this.bossBar);
+    }
+
+    public void hideAll() {
+        for (final UUID uniqueId : this.viewers) {
+            Sponge.server().player(uniqueId).ifPresent(player -> player.hideBossBar(this.bossBar));
+        }
+        this.viewers.clear();
+    }
+}
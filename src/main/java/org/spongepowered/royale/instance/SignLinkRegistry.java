@@ -0,0 +1,283 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.entity.Sign;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.royale.Constants;
+import org.spongepowered.royale.Royale;
+import org.spongepowered.royale.api.Instance;
+import org.spongepowered.royale.configuration.MappedConfigurationAdapter;
+import org.spongepowered.royale.instance.configuration.SignLinkConfiguration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers which join signs in the lobby are linked to which instance, so
+ * they show live status again after a restart without being clicked.
+ *
+ * <p>Only used on the main thread. Changes are written at most once a
+ * second, by the worker.</p>
+ */
+public final class SignLinkRegistry {
+
+    private final InstanceManagerImpl instances;
+    // Created on load, the plugin is constructed before configuration options and the lobby are available
+    @Nullable private MappedConfigurationAdapter<SignLinkConfiguration> adapter;
+    // Sign world -> sign position -> link
+    private final Map<ResourceKey, Map<Vector3i, SignLinkConfiguration.SignLink>> links = new HashMap<>();
+    // Links changed since the last write, kept until there is an adapter to write them with
+    private boolean dirty;
+    private boolean saveScheduled;
+    // Writes run one after another, the last one always holds the latest links
+    private CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+
+    SignLinkRegistry(final InstanceManagerImpl instances) {
+        this.instances = instances;
+    }
+
+    /**
+     * Reads the stored links. Links registered before this keep precedence
+     * over the stored ones and are written once loading is done.
+     *
+     * @return The type of every instance with at least one linked sign
+     */
+    Map<ResourceKey, ResourceKey> load() {
+        final Path file = Constants.Map.Lobby.SIGN_LINKS_FILE;
+        this.adapter = null;
+        MappedConfigurationAdapter<SignLinkConfiguration> adapter = SignLinkRegistry.createAdapter();
+        try {
+            adapter.load();
+        } catch (final ConfigurateException e) {
+            // Never write over a file that couldn't be read, the links in it would be lost for good
+            final Path broken = file.resolveSibling(file.getFileName() + ".broken");
+            try {
+                Files.move(file, broken, StandardCopyOption.REPLACE_EXISTING);
+                Royale.getInstance().getPlugin().logger().error("Unable to load sign links from [{}], moved it to [{}]", file, broken, e);
+                adapter = SignLinkRegistry.createAdapter();
+                adapter.load();
+            } catch (final IOException moveFailure) {
+                Royale.getInstance().getPlugin().logger().error("Unable to load sign links from [{}], they won't be saved until it is fixed",
+                        file, e);
+                return new HashMap<>();
+            }
+        }
+        this.adapter = adapter;
+
+        final Map<ResourceKey, ResourceKey> types = new LinkedHashMap<>();
+        boolean invalid = false;
+        for (final SignLinkConfiguration.SignLink link : this.adapter.getConfig().links) {
+            final ResourceKey world, instance, type;
+            try {
+                world = ResourceKey.resolve(link.world);
+                instance = ResourceKey.resolve(link.instance);
+                type = ResourceKey.resolve(link.type);
+            } catch (final RuntimeException e) {
+                Royale.getInstance().getPlugin().logger().error("Skipping invalid sign link {} in [{}]", link, file, e);
+                invalid = true;
+                continue;
+            }
+            this.links.computeIfAbsent(world, k -> new HashMap<>()).putIfAbsent(new Vector3i(link.x, link.y, link.z), link);
+            types.put(instance, type);
+        }
+        if (invalid) {
+            // The next save drops the invalid links, keep the original around so they can be fixed by hand
+            final Path broken = file.resolveSibling(file.getFileName() + ".broken");
+            try {
+                Files.copy(file, broken, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final IOException e) {
+                Royale.getInstance().getPlugin().logger().error("Unable to back up [{}], sign links won't be saved until it is fixed", file, e);
+                this.adapter = null;
+            }
+        }
+        if (this.dirty) {
+            this.save();
+        }
+        return types;
+    }
+
+    private static MappedConfigurationAdapter<SignLinkConfiguration> createAdapter() {
+        return new MappedConfigurationAdapter<>(SignLinkConfiguration.class, Royale.getInstance().getConfigurationOptions(),
+                Constants.Map.Lobby.SIGN_LINKS_FILE);
+    }
+
+    /**
+     * Writes any pending change right away on the calling thread, for shutdown.
+     */
+    void flush() {
+        this.saveScheduled = false;
+        final Runnable write = this.prepareWrite();
+        this.lastWrite.join();
+        if (write != null) {
+            write.run();
+        }
+    }
+
+    void register(final ServerLocation location, final InstanceImpl instance) {
+        final Map<Vector3i, SignLinkConfiguration.SignLink> world = this.links.computeIfAbsent(location.worldKey(), k -> new HashMap<>());
+        final Vector3i position = location.blockPosition();
+        final String instanceKey = instance.getWorldKey().asString();
+        final String typeKey = instance.getType().key().asString();
+
+        final SignLinkConfiguration.SignLink existing = world.get(position);
+        if (existing != null && existing.instance.equals(instanceKey) && existing.type.equals(typeKey)) {
+            return;
+        }
+
+        final SignLinkConfiguration.SignLink link = new SignLinkConfiguration.SignLink();
+        link.world = location.worldKey().asString();
+        link.x = position.x();
+        link.y = position.y();
+        link.z = position.z();
+        link.instance = instanceKey;
+        link.type = typeKey;
+        world.put(position, link);
+        this.save();
+    }
+
+    /**
+     * @return The key of the instance the sign at the given position was linked to, if any
+     */
+    @Nullable ResourceKey remove(final ResourceKey world, final Vector3i position) {
+        final Map<Vector3i, SignLinkConfiguration.SignLink> links = this.links.get(world);
+        if (links == null) {
+            return null;
+        }
+        final SignLinkConfiguration.SignLink removed = links.remove(position);
+        if (removed == null) {
+            return null;
+        }
+        this.save();
+        return ResourceKey.resolve(removed.instance);
+    }
+
+    /**
+     * Links every sign of the given instance sitting in an already loaded chunk.
+     * Signs in chunks loaded later are picked up by {@link #bindChunk}.
+     */
+    void bindLoaded(final InstanceImpl instance) {
+        final String instanceKey = instance.getWorldKey().asString();
+        for (final Map.Entry<ResourceKey, Map<Vector3i, SignLinkConfiguration.SignLink>> entry : this.links.entrySet()) {
+            final Optional<ServerWorld> world = Sponge.server().worldManager().world(entry.getKey());
+            if (!world.isPresent()) {
+                continue;
+            }
+            for (final Map.Entry<Vector3i, SignLinkConfiguration.SignLink> link : entry.getValue().entrySet()) {
+                final Vector3i position = link.getKey();
+                if (link.getValue().instance.equals(instanceKey) && world.get().isChunkLoaded(position.x() >> 4, 0, position.z() >> 4, true)) {
+                    this.bind(ServerLocation.of(world.get(), position), instance);
+                }
+            }
+        }
+    }
+
+    void bindChunk(final ResourceKey world, final Vector3i chunk) {
+        final Map<Vector3i, SignLinkConfiguration.SignLink> links = this.links.get(world);
+        if (links == null || links.isEmpty()) {
+            return;
+        }
+        for (final Map.Entry<Vector3i, SignLinkConfiguration.SignLink> link : links.entrySet()) {
+            final Vector3i position = link.getKey();
+            if (position.x() >> 4 != chunk.x() || position.z() >> 4 != chunk.z()) {
+                continue;
+            }
+            final Optional<Instance> instance = this.instances.getInstance(ResourceKey.resolve(link.getValue().instance));
+            if (instance.isPresent()) {
+                this.bind(ServerLocation.of(world, position), (InstanceImpl) instance.get());
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return this.links.isEmpty();
+    }
+
+    private void bind(final ServerLocation location, final InstanceImpl instance) {
+        location.blockEntity().filter(Sign.class::isInstance).ifPresent(sign -> instance.link((Sign) sign));
+    }
+
+    private void save() {
+        this.dirty = true;
+        if (this.adapter == null || this.saveScheduled) {
+            return;
+        }
+        this.saveScheduled = true;
+        Sponge.server().scheduler().submit(Task.builder()
+                .plugin(Royale.getInstance().getPlugin())
+                .execute(this::write)
+                .delay(1, TimeUnit.SECONDS)
+                .name(Constants.Plugin.ID + " - Save Sign Links")
+                .build()
+        );
+    }
+
+    private void write() {
+        this.saveScheduled = false;
+        final Runnable write = this.prepareWrite();
+        if (write != null) {
+            this.lastWrite = this.lastWrite.thenRunAsync(write, Royale.getInstance().getWorkerExecutorService());
+        }
+    }
+
+    private @Nullable Runnable prepareWrite() {
+        final MappedConfigurationAdapter<SignLinkConfiguration> adapter = this.adapter;
+        if (!this.dirty || adapter == null) {
+            return null;
+        }
+        this.dirty = false;
+
+        // Links are never changed once created, a copy of the lists is enough off the main thread
+        final List<SignLinkConfiguration.SignLink> snapshot = new ArrayList<>();
+        for (final Map<Vector3i, SignLinkConfiguration.SignLink> world : this.links.values()) {
+            snapshot.addAll(world.values());
+        }
+        return () -> {
+            adapter.getConfig().links = snapshot;
+            try {
+                adapter.save();
+            } catch (final ConfigurateException e) {
+                Royale.getInstance().getPlugin().logger().error("Unable to save sign links to [{}]", Constants.Map.Lobby.SIGN_LINKS_FILE, e);
+            }
+        };
+    }
+}
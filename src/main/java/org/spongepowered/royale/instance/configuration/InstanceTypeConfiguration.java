@@ -28,6 +28,7 @@ import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 import org.spongepowered.royale.configuration.AbstractConfiguration;
 import org.spongepowered.royale.instance.configuration.category.GeneralCategory;
+import org.spongepowered.royale.instance.configuration.category.OvertimeCategory;
 import org.spongepowered.royale.instance.configuration.category.RoundCategory;
 
 @ConfigSerializable
@@ -38,4 +39,7 @@ public final class InstanceTypeConfiguration extends AbstractConfiguration {
 
     @Setting
     public RoundCategory round;
+
+    @Setting
+    public OvertimeCategory overtime;
 }
@@ -68,4 +68,19 @@ public final class RoundCategory extends AbstractConfigurationCategory {
             + "automatically start. Specifying -1 means the instance must be started manually. Default (" + Constants.Map.Round
             .DEFAULT_AUTOMATIC_START_PLAYER_COUNT + ").")
     public int automaticStartPlayerCount = Constants.Map.Round.DEFAULT_AUTOMATIC_START_PLAYER_COUNT;
+
+    @Setting("drop-inventory-on-elimination")
+    @Comment("If true, the inventory of an eliminated player is put into a chest where they were eliminated instead of being "
+            + "cleared. Default (" + Constants.Map.Round.DEFAULT_DROP_INVENTORY_ON_ELIMINATION + ").")
+    public boolean dropInventoryOnElimination = Constants.Map.Round.DEFAULT_DROP_INVENTORY_ON_ELIMINATION;
+
+    @Setting("spectator-capacity")
+    @Comment("Maximum amount of spectators. Specifying -1 means there is no limit. Default (" + Constants.Map.Round
+            .DEFAULT_SPECTATOR_CAPACITY + ").")
+    public int spectatorCapacity = Constants.Map.Round.DEFAULT_SPECTATOR_CAPACITY;
+
+    @Setting("lightweight-spectators")
+    @Comment("If true, spectators are vanished and don't get the boss bar, so they cost the server as little as possible. "
+            + "Default (" + Constants.Map.Round.DEFAULT_LIGHTWEIGHT_SPECTATORS + ").")
+    public boolean lightweightSpectators = Constants.Map.Round.DEFAULT_LIGHTWEIGHT_SPECTATORS;
 }
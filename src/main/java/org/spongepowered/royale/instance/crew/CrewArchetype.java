@@ -0,0 +1,78 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance.crew;
+
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+import org.spongepowered.royale.template.ComponentTemplate;
+
+@ConfigSerializable
+public final class CrewArchetype {
+
+    @Setting
+    @Comment("Kind of cleanup crew member. One of RANGER, SWORDSMAN or GUARDIAN. Guardians are only spawned in water.")
+    public Kind kind = Kind.SWORDSMAN;
+
+    @Setting
+    @Comment("Relative chance of this archetype being picked over the others of the same environment.")
+    public double weight = 1;
+
+    @Setting
+    @Comment("Template used to display the name above the crew member.")
+    public ComponentTemplate name = new ComponentTemplate("");
+
+    @Setting
+    @Comment("Item held in the main hand.")
+    public ItemStackSnapshot mainHand = ItemStackSnapshot.empty();
+
+    @Setting
+    @Comment("Item held in the off hand. Rangers shoot the arrows held here.")
+    public ItemStackSnapshot offHand = ItemStackSnapshot.empty();
+
+    @Setting
+    @Comment("Movement speed while attacking.")
+    public double speed = 8.25;
+
+    public CrewArchetype() {
+    }
+
+    public CrewArchetype(final Kind kind, final double weight, final ComponentTemplate name, final ItemStackSnapshot mainHand,
+            final ItemStackSnapshot offHand, final double speed) {
+        this.kind = kind;
+        this.weight = weight;
+        this.name = name;
+        this.mainHand = mainHand;
+        this.offHand = offHand;
+        this.speed = speed;
+    }
+
+    public enum Kind {
+        RANGER,
+        SWORDSMAN,
+        GUARDIAN
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance.crew;
+
+import net.kyori.adventure.text.Component;
+import org.spongepowered.api.data.Keys;
+import org.spongepowered.api.data.type.HandTypes;
+import org.spongepowered.api.effect.potion.PotionEffect;
+import org.spongepowered.api.effect.potion.PotionEffectTypes;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityTypes;
+import org.spongepowered.api.entity.ai.goal.GoalExecutor;
+import org.spongepowered.api.entity.ai.goal.GoalExecutorTypes;
+import org.spongepowered.api.entity.ai.goal.builtin.LookAtGoal;
+import org.spongepowered.api.entity.ai.goal.builtin.LookRandomlyGoal;
+import org.spongepowered.api.entity.ai.goal.builtin.SwimGoal;
+import org.spongepowered.api.entity.ai.goal.builtin.creature.AttackLivingGoal;
+import org.spongepowered.api.entity.ai.goal.builtin.creature.RandomWalkingGoal;
+import org.spongepowered.api.entity.ai.goal.builtin.creature.RangedAttackAgainstAgentGoal;
+import org.spongepowered.api.entity.ai.goal.builtin.creature.target.FindNearestAttackableTargetGoal;
+import org.spongepowered.api.entity.living.Agent;
+import org.spongepowered.api.entity.living.Human;
+import org.spongepowered.api.entity.living.Living;
+import org.spongepowered.api.entity.living.monster.guardian.Guardian;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3d;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A {@link CrewArchetype} prepared for spawning. Names, equipment and goal
+ * builders are resolved once per instance type and reused for every spawn.
+ * The target goal depends on the instance and gets a fresh builder each time.
+ */
+public final class CrewProfile {
+
+    private static final List<PotionEffect> GUARDIAN_EFFECTS = Collections.singletonList(PotionEffect.of(PotionEffectTypes.SPEED, 2, 10000));
+
+    private final CrewArchetype archetype;
+    private final Component name;
+    private final SwimGoal.Builder swimGoal;
+    private final RangedAttackAgainstAgentGoal.Builder rangedGoal;
+    private final AttackLivingGoal.Builder meleeGoal;
+    private final RandomWalkingGoal.Builder walkGoal;
+    private final LookAtGoal.Builder lookAtGoal;
+    private final LookRandomlyGoal.Builder lookRandomlyGoal;
+
+    public CrewProfile(final CrewArchetype archetype) {
+        this.archetype = archetype;
+        this.name = archetype.name.parse(null, Collections.emptyMap());
+        this.swimGoal = SwimGoal.builder().swimChance(0.8f);
+        this.rangedGoal = RangedAttackAgainstAgentGoal.builder().moveSpeed(archetype.speed).attackRadius(15f).delayBetweenAttacks(65);
+        this.meleeGoal = AttackLivingGoal.builder().longMemory().speed(archetype.speed);
+        this.walkGoal = RandomWalkingGoal.builder().speed(6.5);
+        this.lookAtGoal = LookAtGoal.builder().maxDistance(8f).watch(ServerPlayer.class);
+        this.lookRandomlyGoal = LookRandomlyGoal.builder();
+    }
+
+    public CrewArchetype getArchetype() {
+        return this.archetype;
+    }
+
+    public double getWeight() {
+        return this.archetype.weight;
+    }
+
+    public boolean isAquatic() {
+        return this.archetype.kind == CrewArchetype.Kind.GUARDIAN;
+    }
+
+    /**
+     * Creates a crew member from this profile. The entity still needs to be
+     * spawned into the world.
+     *
+     * @param targets Filter of the players this crew member may attack
+     */
+    public Entity create(final ServerWorld world, final Vector3d position, final Predicate<Living> targets) {
+        if (this.isAquatic()) {
+            final Guardian guardian = world.createEntity(EntityTypes.GUARDIAN.get(), position);
+            guardian.offer(Keys.POTION_EFFECTS, CrewProfile.GUARDIAN_EFFECTS);
+            this.applyName(guardian);
+            return guardian;
+        }
+
+        final Human human = world.createEntity(EntityTypes.HUMAN.get(), position);
+        final GoalExecutor<Agent> targetGoal = human.goal(GoalExecutorTypes.TARGET.get()).orElse(null);
+        // Profiles are shared by every instance of the type, the filter must not end up in a shared builder
+        targetGoal.addGoal(0, FindNearestAttackableTargetGoal.builder().chance(1).target(ServerPlayer.class).filter(targets).build(human));
+
+        final GoalExecutor<Agent> normalGoal = human.goal(GoalExecutorTypes.NORMAL.get()).orElse(null);
+        normalGoal.addGoal(0, this.swimGoal.build(human));
+        if (this.archetype.kind == CrewArchetype.Kind.RANGER) {
+            normalGoal.addGoal(1, this.rangedGoal.build(human));
+        } else {
+            normalGoal.addGoal(1, this.meleeGoal.build(human));
+        }
+        normalGoal.addGoal(2, this.walkGoal.build(human));
+        normalGoal.addGoal(3, this.lookAtGoal.build(human));
+        normalGoal.addGoal(3, this.lookRandomlyGoal.build(human));
+
+        if (!this.archetype.mainHand.isEmpty()) {
+            human.setItemInHand(HandTypes.MAIN_HAND, this.archetype.mainHand.createStack());
+        }
+        if (!this.archetype.offHand.isEmpty()) {
+            human.setItemInHand(HandTypes.OFF_HAND, this.archetype.offHand.createStack());
+        }
+        this.applyName(human);
+        return human;
+    }
+
+    private void applyName(final Entity entity) {
+        if (!this.name.equals(Component.empty())) {
+            entity.offer(Keys.CUSTOM_NAME, this.name);
+        }
+    }
+}
@@ -80,6 +80,8 @@ public final class InstanceMutatorPipeline {
                     .apply(VolumeCollectors.applyBlockEntitiesOrRemove(world));
         }
 
+        instance.setSafeSpawnGrid(SafeSpawnGrid.create(min, max));
+
         Royale.getInstance().getPlugin().logger().info("[Mutator] Done.");
     }
 
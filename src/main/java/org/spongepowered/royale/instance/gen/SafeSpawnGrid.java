@@ -0,0 +1,142 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.instance.gen;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * A compact per-instance lookup of the surface columns inside the world border.
+ *
+ * <p>Columns are resolved from the world heightmap the first time they are
+ * queried and invalidated when a block at or above the surface changes, so
+ * repeated queries for the same area never go back to the world.</p>
+ */
+public final class SafeSpawnGrid {
+
+    /**
+     * Border diameters above this size are not indexed, callers should fall back
+     * to searching the world directly.
+     */
+    public static final int MAX_DIAMETER = 1024;
+
+    private static final byte UNKNOWN = 0;
+    private static final byte UNSAFE = 1;
+    private static final byte GROUND = 2;
+    private static final byte WATER = 3;
+
+    private final int minX;
+    private final int minZ;
+    private final int size;
+    private final short[] heights;
+    private final byte[] kinds;
+
+    private SafeSpawnGrid(final int minX, final int minZ, final int size) {
+        this.minX = minX;
+        this.minZ = minZ;
+        this.size = size;
+        this.heights = new short[size * size];
+        this.kinds = new byte[size * size];
+    }
+
+    public static @Nullable SafeSpawnGrid create(final Vector3i min, final Vector3i max) {
+        final int size = Math.max(max.x() - min.x(), max.z() - min.z()) + 1;
+        if (size > SafeSpawnGrid.MAX_DIAMETER) {
+            return null;
+        }
+        return new SafeSpawnGrid(min.x(), min.z(), size);
+    }
+
+    /**
+     * Finds a safe column within {@code radius} blocks of the given column.
+     *
+     * @return The position a mob can stand at, or {@code null} if none was found
+     */
+    public @Nullable Vector3i find(final ServerWorld world, final int x, final int z, final int radius) {
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                final int index = this.index(x + dx, z + dz);
+                if (index != -1 && this.resolve(world, index) != SafeSpawnGrid.UNSAFE) {
+                    return new Vector3i(x + dx, this.heights[index], z + dz);
+                }
+            }
+        }
+        return null;
+    }
+
+    public boolean isWater(final ServerWorld world, final int x, final int z) {
+        final int index = this.index(x, z);
+        return index != -1 && this.resolve(world, index) == SafeSpawnGrid.WATER;
+    }
+
+    /**
+     * Marks the column dirty if the change at the given position may have moved
+     * or altered its surface. The column is re-read on its next lookup.
+     */
+    public void invalidate(final int x, final int y, final int z) {
+        final int index = this.index(x, z);
+        if (index != -1 && y >= this.heights[index] - 1) {
+            this.kinds[index] = SafeSpawnGrid.UNKNOWN;
+        }
+    }
+
+    private int index(final int x, final int z) {
+        final int gx = x - this.minX;
+        final int gz = z - this.minZ;
+        if (gx < 0 || gz < 0 || gx >= this.size || gz >= this.size) {
+            return -1;
+        }
+        return gx * this.size + gz;
+    }
+
+    private byte resolve(final ServerWorld world, final int index) {
+        byte kind = this.kinds[index];
+        if (kind != SafeSpawnGrid.UNKNOWN) {
+            return kind;
+        }
+        final int x = this.minX + index / this.size;
+        final int z = this.minZ + index % this.size;
+        final int y = world.highestYAt(x, z);
+        if (y <= 0 || y >= world.maximumHeight()) {
+            kind = SafeSpawnGrid.UNSAFE;
+        } else {
+            final BlockType ground = world.block(x, y - 1, z).type();
+            if (ground.isAnyOf(BlockTypes.WATER)) {
+                kind = SafeSpawnGrid.WATER;
+            } else if (ground.isAnyOf(BlockTypes.LAVA, BlockTypes.FIRE, BlockTypes.MAGMA_BLOCK, BlockTypes.CACTUS, BlockTypes.CAMPFIRE,
+                    BlockTypes.SWEET_BERRY_BUSH)) {
+                kind = SafeSpawnGrid.UNSAFE;
+            } else {
+                kind = SafeSpawnGrid.GROUND;
+            }
+        }
+        this.heights[index] = (short) y;
+        this.kinds[index] = kind;
+        return kind;
+    }
+}
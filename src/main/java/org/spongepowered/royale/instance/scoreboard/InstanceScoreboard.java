@@ -27,22 +27,31 @@ package org.spongepowered.royale.instance.scoreboard;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.scoreboard.Score;
 import org.spongepowered.api.scoreboard.Scoreboard;
 import org.spongepowered.api.scoreboard.Team;
 import org.spongepowered.api.scoreboard.criteria.Criteria;
 import org.spongepowered.api.scoreboard.displayslot.DisplaySlots;
 import org.spongepowered.api.scoreboard.objective.Objective;
+import org.spongepowered.royale.Constants;
+import org.spongepowered.royale.Royale;
 import org.spongepowered.royale.instance.InstanceImpl;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 
 /**
@@ -56,127 +65,266 @@ import java.util.UUID;
  *          PlayerB
  *          PlayerC
  *          PlayerD (imagine this one is got a strikethrough as they lost)
+ *
+ * <p>Every line sits in a fixed score tier and the client orders lines
+ * sharing a score by name, so adding, killing or removing a player only
+ * ever touches that player's line.</p>
+ *
+ * <p>Changes are buffered and applied once on the next tick. A player who
+ * joins and dies, or dies and leaves, within the same tick costs a single
+ * update or none at all.</p>
+ *
+ * <p>The sidebar only fits fifteen lines, so only the top of the ranking
+ * (alive players first, then by name) gets a line and the rest is summed
+ * up in a final "N more" line. Players outside of that window cost
+ * nothing until they move into it.</p>
+ *
+ * <p>A scoreboard belongs to an arena rather than a round and is handed
+ * from one instance to the next through {@link #reset}. Teams stay
+ * registered and are handed out again to later players.</p>
  */
 public final class InstanceScoreboard {
 
+    private static final int MAX_PLAYER_LINES = 15 - 3;
+    private static final int MORE_TIER = -1;
+    private static final int DEAD_TIER = 0;
+    private static final int ALIVE_TIER = 1;
+    private static final int EMPTY_LINE_TIER = 2;
+    private static final int DASHES_TIER = 3;
+    private static final int INSTANCE_TYPE_TIER = 4;
+    // Alive before dead, then by name like the client orders lines sharing a score
+    private static final Comparator<PlayerData> RANKING = Comparator.<PlayerData>comparingInt(data -> -data.desired.tier)
+            .thenComparing(data -> data.name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(data -> data.uuid);
+
+    private final String name;
     private final Scoreboard scoreboard;
     private final Objective objective;
-    private final Score instanceTypeScore, dashesScore, emptyLineScore;
+    private final Deque<Team> freeTeams = new ArrayDeque<>();
+    private int teamCount;
+    private String typeName;
+    private Score typeScore;
     private final Map<UUID, PlayerData> playerData = new HashMap<>();
+    private final Set<PlayerData> dirty = new LinkedHashSet<>();
+    // Players with a line, whether it is currently visible or not
+    private final NavigableSet<PlayerData> ranking = new TreeSet<>(InstanceScoreboard.RANKING);
+    private List<PlayerData> shown = new ArrayList<>();
+    private List<PlayerData> window = new ArrayList<>();
+    @Nullable private Score moreScore;
+    private int moreCount;
+    private boolean flushScheduled;
 
     public InstanceScoreboard(final InstanceImpl instance) {
+        this.name = instance.getWorldKey().formatted();
         this.scoreboard = Scoreboard.builder().build();
         this.objective =
                 Objective.builder().name("main").displayName(Component.text(instance.getWorldKey().formatted(), NamedTextColor.GREEN))
                         .criterion(Criteria.DUMMY).build();
 
         // Instance type
-        this.instanceTypeScore = this.objective.findOrCreateScore(Component.text(instance.getType().name(), NamedTextColor.RED));
-        this.instanceTypeScore.setScore(0);
+        this.typeName = instance.getType().name();
+        this.typeScore = this.objective.findOrCreateScore(Component.text(this.typeName, NamedTextColor.RED));
+        this.typeScore.setScore(InstanceScoreboard.INSTANCE_TYPE_TIER);
 
         // Dashes
-        this.dashesScore = this.objective.findOrCreateScore(Component.text("----------------"));
-        this.dashesScore.setScore(0);
+        this.objective.findOrCreateScore(Component.text("----------------")).setScore(InstanceScoreboard.DASHES_TIER);
 
         // Empty line
-        this.emptyLineScore = this.objective.findOrCreateScore(Component.empty());
-        this.emptyLineScore.setScore(0);
+        this.objective.findOrCreateScore(Component.empty()).setScore(InstanceScoreboard.EMPTY_LINE_TIER);
 
         this.scoreboard.addObjective(this.objective);
         this.scoreboard.updateDisplaySlot(this.objective, DisplaySlots.SIDEBAR);
-
-        this.sortScoreboard();
     }
 
     public Scoreboard getHandle() {
         return this.scoreboard;
     }
 
-    public void addPlayer(final ServerPlayer player) {
-        final Score score = this.objective.findOrCreateScore(Component.text(player.name(), NamedTextColor.DARK_GREEN));
-        score.setScore(1);
+    /**
+     * Prepares the scoreboard for a new round in the same arena. Lines of the
+     * previous round are cleared on the next flush.
+     */
+    public void reset(final InstanceImpl instance) {
+        for (final PlayerData data : this.playerData.values()) {
+            if (data.desired != Line.NONE) {
+                this.update(data, Line.NONE);
+            }
+        }
 
-        final Team team = Team.builder().name(player.name()).build();
-        team.addMember(player.teamRepresentation());
-        this.scoreboard.registerTeam(team);
+        final String typeName = instance.getType().name();
+        if (!typeName.equals(this.typeName)) {
+            this.objective.removeScore(this.typeScore);
+            this.typeName = typeName;
+            this.typeScore = this.objective.findOrCreateScore(Component.text(typeName, NamedTextColor.RED));
+            this.typeScore.setScore(InstanceScoreboard.INSTANCE_TYPE_TIER);
+        }
+    }
 
-        this.playerData.put(player.uniqueId(), new PlayerData(score, team, player.name(), player.uniqueId()));
+    public void addPlayer(final ServerPlayer player) {
+        final PlayerData data = this.playerData.computeIfAbsent(player.uniqueId(),
+                uuid -> new PlayerData(uuid, player.name(), player.teamRepresentation()));
+        this.update(data, Line.ALIVE);
         player.setScoreboard(this.scoreboard);
-
-        this.sortScoreboard();
     }
 
     public void killPlayer(final ServerPlayer player) {
-        if (!this.playerData.containsKey(player.uniqueId())) {
+        final PlayerData data = this.playerData.get(player.uniqueId());
+        if (data == null || data.desired == Line.NONE) {
             return;
         }
-
-        final PlayerData data = this.playerData.get(player.uniqueId());
-        this.objective.removeScore(data.score);
-        final Score score = this.objective.findOrCreateScore(Component.text(player.name(), NamedTextColor.GRAY, TextDecoration.STRIKETHROUGH ));
-        score.setScore(0);
-        data.score = score;
-        data.dead = true;
-
-        this.sortScoreboard();
+        this.update(data, Line.DEAD);
     }
 
     public void removePlayer(final ServerPlayer player) {
-        final PlayerData data = this.playerData.remove(player.uniqueId());
+        final PlayerData data = this.playerData.get(player.uniqueId());
         if (data != null) {
-            data.team.unregister();
-            this.objective.removeScore(data.score);
+            this.update(data, Line.NONE);
         }
-        this.sortScoreboard();
         Sponge.server().serverScoreboard().ifPresent(player::setScoreboard);
     }
 
-    private void sortScoreboard() {
-        final List<PlayerData> alive = new ArrayList<>();
-        final List<PlayerData> dead = new ArrayList<>();
+    private void update(final PlayerData data, final Line line) {
+        // The ranking is ordered by the line, so it has to be re-inserted
+        this.ranking.remove(data);
+        data.desired = line;
+        if (line != Line.NONE) {
+            this.ranking.add(data);
+        }
+        this.dirty.add(data);
+        if (this.flushScheduled) {
+            return;
+        }
+        this.flushScheduled = true;
+        Sponge.server().scheduler().submit(Task.builder()
+                .plugin(Royale.getInstance().getPlugin())
+                .execute(this::flush)
+                .name(Constants.Plugin.ID + " - Scoreboard Flush - " + this.name)
+                .build()
+        );
+    }
+
+    private void flush() {
+        this.flushScheduled = false;
+        this.flushWindow();
+        for (final PlayerData data : this.dirty) {
+            final boolean member = data.desired != Line.NONE;
+            if (member && data.team == null) {
+                data.team = this.acquireTeam();
+                data.team.addMember(data.member);
+            } else if (!member && data.team != null) {
+                data.team.removeMember(data.member);
+                this.freeTeams.push(data.team);
+                data.team = null;
+            }
+
+            if (!member) {
+                this.playerData.remove(data.uuid);
+            }
+        }
+        this.dirty.clear();
+    }
+
+    private Team acquireTeam() {
+        final Team free = this.freeTeams.poll();
+        if (free != null) {
+            return free;
+        }
+        final Team team = Team.builder().name("royale-" + this.teamCount++).build();
+        this.scoreboard.registerTeam(team);
+        return team;
+    }
 
-        for (final Map.Entry<UUID, PlayerData> entry : this.playerData.entrySet()) {
-            if (entry.getValue().dead) {
-                dead.add(entry.getValue());
-            } else {
-                alive.add(entry.getValue());
+    private void flushWindow() {
+        final int capacity = this.ranking.size() > InstanceScoreboard.MAX_PLAYER_LINES
+                ? InstanceScoreboard.MAX_PLAYER_LINES - 1
+                : InstanceScoreboard.MAX_PLAYER_LINES;
+        for (final PlayerData data : this.ranking) {
+            if (this.window.size() == capacity) {
+                break;
             }
+            data.windowed = true;
+            this.window.add(data);
         }
 
-        // Inverse alphabetical order
-        final Comparator<PlayerData> comparator = (p1, p2) -> -p1.name.compareTo(p2.name);
+        for (final PlayerData data : this.shown) {
+            if (!data.windowed) {
+                this.apply(data, Line.NONE);
+            }
+        }
+        for (final PlayerData data : this.window) {
+            this.apply(data, data.desired);
+            data.windowed = false;
+        }
 
-        dead.sort(comparator);
-        alive.sort(comparator);
+        // Swap the buffers instead of allocating new ones
+        final List<PlayerData> previous = this.shown;
+        this.shown = this.window;
+        this.window = previous;
+        this.window.clear();
 
-        int position = 0;
+        final int hidden = this.ranking.size() - this.shown.size();
+        if (hidden != this.moreCount) {
+            if (this.moreScore != null) {
+                this.objective.removeScore(this.moreScore);
+                this.moreScore = null;
+            }
+            if (hidden > 0) {
+                this.moreScore = this.objective.findOrCreateScore(Component.text(hidden + " more", NamedTextColor.GRAY, TextDecoration.ITALIC));
+                this.moreScore.setScore(InstanceScoreboard.MORE_TIER);
+            }
+            this.moreCount = hidden;
+        }
+    }
 
-        for (int i = 0; i < dead.size(); i++, position++) {
-            this.playerData.get(dead.get(i).uuid).score.setScore(position);
+    private void apply(final PlayerData data, final Line line) {
+        if (data.applied == line) {
+            return;
         }
+        if (data.score != null) {
+            this.objective.removeScore(data.score);
+            data.score = null;
+        }
+        if (line != Line.NONE) {
+            data.score = this.objective.findOrCreateScore(line.render(data.name));
+            data.score.setScore(line.tier);
+        }
+        data.applied = line;
+    }
 
-        for (int i = 0; i < alive.size(); i++, position++) {
-            this.playerData.get(alive.get(i).uuid).score.setScore(position);
+    private enum Line {
+        NONE(0),
+        ALIVE(InstanceScoreboard.ALIVE_TIER),
+        DEAD(InstanceScoreboard.DEAD_TIER);
+
+        final int tier;
+
+        Line(final int tier) {
+            this.tier = tier;
         }
 
-        this.emptyLineScore.setScore(++position);
-        this.dashesScore.setScore(++position);
-        this.instanceTypeScore.setScore(++position);
+        Component render(final String name) {
+            if (this == Line.DEAD) {
+                return Component.text(name, NamedTextColor.GRAY, TextDecoration.STRIKETHROUGH);
+            }
+            return Component.text(name, NamedTextColor.DARK_GREEN);
+        }
     }
 
     private static class PlayerData {
 
-        String name;
-        Score score;
-        Team team;
-        boolean dead;
-        UUID uuid;
+        final UUID uuid;
+        final String name;
+        final Component member;
+        Line desired = Line.NONE;
+        Line applied = Line.NONE;
+        @Nullable Score score;
+        @Nullable Team team;
+        boolean windowed;
 
-        PlayerData(final Score score, final Team team, final String name, final UUID uuid) {
-            this.name = name;
-            this.score = score;
-            this.team = team;
+        PlayerData(final UUID uuid, final String name, final Component member) {
             this.uuid = uuid;
+            this.name = name;
+            this.member = member;
         }
     }
 }
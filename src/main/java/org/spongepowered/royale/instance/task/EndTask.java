@@ -26,8 +26,6 @@ package org.spongepowered.royale.instance.task;
 
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.LinearComponents;
-import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.title.Title;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.Keys;
@@ -36,18 +34,27 @@ import org.spongepowered.api.effect.particle.ParticleTypes;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.scheduler.ScheduledTask;
-import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.royale.Royale;
+import org.spongepowered.royale.instance.InstanceBroadcast;
 import org.spongepowered.royale.instance.InstanceImpl;
+import org.spongepowered.royale.message.Message;
+import org.spongepowered.royale.message.MessageCatalog;
 
 import java.time.Duration;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public final class EndTask extends InstanceTask {
 
+    // Seconds to wait for the profile lookup before the winner is announced as unknown
+    private static final int MAX_NAME_WAITS = 5;
+
     private final boolean mustStopManually;
     private final long endLengthTotal;
+    private final CompletableFuture<Component> winnerName;
+    private int nameWaits;
     private long endLengthRemaining;
 
     public EndTask(final InstanceImpl instance) {
@@ -55,12 +62,27 @@ public final class EndTask extends InstanceTask {
         this.endLengthTotal = instance.getType().getRoundEndLength();
         this.mustStopManually = this.endLengthTotal == -1;
         this.endLengthRemaining = this.mustStopManually ? Long.MAX_VALUE : this.endLengthTotal;
+        this.winnerName = instance.getWinner().map(EndTask::resolveName).orElseGet(() -> CompletableFuture.completedFuture(Component.text("Unknown")));
+    }
+
+    // Find ServerPlayer -> cached GameProfile -> looked up GameProfile -> Unknown. The cache is only queried on the main thread,
+    // the lookup is asynchronous by itself.
+    private static CompletableFuture<Component> resolveName(final UUID uniqueId) {
+        final Optional<Component> displayName = Sponge.server().player(uniqueId).flatMap(p -> p.get(Keys.DISPLAY_NAME));
+        if (displayName.isPresent()) {
+            return CompletableFuture.completedFuture(displayName.get());
+        }
+        final Optional<String> cachedName = Sponge.server().gameProfileManager().cache().findById(uniqueId).flatMap(GameProfile::name);
+        if (cachedName.isPresent()) {
+            return CompletableFuture.completedFuture(Component.text(cachedName.get()));
+        }
+        return Sponge.server().gameProfileManager().profile(uniqueId)
+                .thenApply(profile -> profile.name().<Component>map(Component::text).orElse(Component.text("Unknown")))
+                .exceptionally(throwable -> Component.text("Unknown"));
     }
 
     @Override
     public void accept(final ScheduledTask task) {
-        final ServerWorld world = this.instance.world();
-
         if (this.mustStopManually) {
             return;
         }
@@ -78,39 +100,29 @@ public final class EndTask extends InstanceTask {
 
         // First tick, kickoff end sequence
         if (this.endLengthTotal == this.endLengthRemaining) {
+            if (!this.winnerName.isDone() && this.nameWaits++ < EndTask.MAX_NAME_WAITS) {
+                // Still looking up the winner's profile, try again next tick
+                return;
+            }
 
-            // Find ServerPlayer -> cached GameProfile -> Unknown
             final Optional<ServerPlayer> winner = Sponge.server().player(winnerOpt.get());
-            final Component name = winner.flatMap(p -> p.get(Keys.DISPLAY_NAME))
-                    .orElse(Sponge.server().gameProfileManager().cache().findById(winnerOpt.get()).flatMap(GameProfile::name).map(Component::text)
-                            .orElse(Component.text("Unknown")));
+            final Component name = this.winnerName.getNow(Component.text("Unknown"));
 
             winner.ifPresent(player -> player.spawnParticles(ParticleEffect.builder()
                             .type(ParticleTypes.FIREWORK)
                             .quantity(30)
                             .build(), player.location().position()));
 
-            Sponge.server().broadcastAudience()
-                    .sendMessage(Identity.nil(), LinearComponents.linear(NamedTextColor.GREEN, name,
-                            NamedTextColor.WHITE, Component.text(" has won the game!")));
-
-            final Title title = Title.title(LinearComponents.linear(NamedTextColor.GREEN, name,
-                    NamedTextColor.WHITE, Component.text(" is the winner!")), Component.empty(),
-                    Title.Times.of(Duration.ZERO, Duration.ofSeconds(this.endLengthTotal - 2), Duration.ofSeconds(1)));
-
-            if (!winner.isPresent()) {
-                world.showTitle(title);
-            } else {
-                final Title winnerTitle = Title.title(Component.text("You are the winner!", NamedTextColor.GREEN), Component.empty(),
-                        Title.Times.of(Duration.ZERO, Duration.ofSeconds(this.endLengthTotal - 2), Duration.ofSeconds(1)));
-                for (final ServerPlayer player : world.players()) {
-                    if (player.uniqueId().equals(winner.get().uniqueId())) {
-                        player.showTitle(winnerTitle);
-                    } else {
-                        player.showTitle(title);
-                    }
-                }
+            final MessageCatalog messages = Royale.getInstance().getMessageCatalog();
+            for (final ServerPlayer player : Sponge.server().onlinePlayers()) {
+                player.sendMessage(Identity.nil(), messages.render(player, Message.WINNER_ANNOUNCEMENT, name));
             }
+            Sponge.systemSubject().sendMessage(Identity.nil(), messages.render(Locale.getDefault(), Message.WINNER_ANNOUNCEMENT, name));
+
+            final Title.Times times = Title.Times.of(Duration.ZERO, Duration.ofSeconds(this.endLengthTotal - 2), Duration.ofSeconds(1));
+            this.instance.getBroadcast().title(InstanceBroadcast.Target.ALL, Message.WINNER_TITLE, name, times);
+            winner.ifPresent(player -> this.instance.getBroadcast().title(InstanceBroadcast.Target.WINNER,
+                    Title.title(messages.render(player, Message.WINNER_SELF), Component.empty(), times)));
 
             Royale.getInstance().getPlugin().logger().info("Round finished in {}!", this.instance.getWorldKey());
         }
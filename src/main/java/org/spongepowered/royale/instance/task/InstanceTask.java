@@ -25,6 +25,7 @@
 package org.spongepowered.royale.instance.task;
 
 import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.royale.instance.InstanceImpl;
 
 import java.util.function.Consumer;
@@ -40,4 +41,12 @@ public abstract class InstanceTask implements Consumer<ScheduledTask> {
     public void cleanup() {
     }
 
+    /**
+     * Whether anyone is in the instance world to receive the titles and boss
+     * bars of this task. Without an audience tasks only advance their clock.
+     */
+    protected boolean hasAudience(final ServerWorld world) {
+        return !world.players().isEmpty();
+    }
+
 }
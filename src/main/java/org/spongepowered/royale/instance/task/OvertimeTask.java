@@ -24,7 +24,6 @@
  */
 package org.spongepowered.royale.instance.task;
 
-import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -32,40 +31,37 @@ import net.kyori.adventure.title.Title;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.Keys;
-import org.spongepowered.api.data.type.HandTypes;
 import org.spongepowered.api.effect.potion.PotionEffect;
 import org.spongepowered.api.effect.potion.PotionEffectTypes;
+import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntityTypes;
-import org.spongepowered.api.entity.ai.goal.GoalExecutor;
-import org.spongepowered.api.entity.ai.goal.GoalExecutorTypes;
-import org.spongepowered.api.entity.ai.goal.builtin.LookAtGoal;
-import org.spongepowered.api.entity.ai.goal.builtin.LookRandomlyGoal;
-import org.spongepowered.api.entity.ai.goal.builtin.SwimGoal;
-import org.spongepowered.api.entity.ai.goal.builtin.creature.AttackLivingGoal;
-import org.spongepowered.api.entity.ai.goal.builtin.creature.RandomWalkingGoal;
-import org.spongepowered.api.entity.ai.goal.builtin.creature.RangedAttackAgainstAgentGoal;
-import org.spongepowered.api.entity.ai.goal.builtin.creature.target.FindNearestAttackableTargetGoal;
-import org.spongepowered.api.entity.living.Agent;
-import org.spongepowered.api.entity.living.Human;
+import org.spongepowered.api.entity.living.Living;
 import org.spongepowered.api.entity.living.monster.Silverfish;
-import org.spongepowered.api.entity.living.monster.guardian.Guardian;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
-import org.spongepowered.api.item.ItemTypes;
-import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.util.weighted.WeightedTable;
 import org.spongepowered.api.world.explosion.Explosion;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.royale.api.RoyaleKeys;
+import org.spongepowered.royale.instance.InstanceBroadcast;
 import org.spongepowered.royale.instance.InstanceImpl;
+import org.spongepowered.royale.instance.RoundBossBar;
+import org.spongepowered.royale.instance.crew.CrewProfile;
+import org.spongepowered.royale.instance.gen.SafeSpawnGrid;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.UUID;
+import java.util.function.Predicate;
 
 public final class OvertimeTask extends InstanceTask {
 
-    private final BossBar bossBar;
+    private final RoundBossBar bossBar;
 
     private final Title title = Title.title(
             Component.text("Survive!", NamedTextColor.RED),
@@ -75,27 +71,46 @@ public final class OvertimeTask extends InstanceTask {
     private final long roundLengthTotal;
     private long roundLengthRemaining;
     private final Random random = new Random();
+    private final WeightedTable<CrewProfile> landCrew = new WeightedTable<>();
+    private final WeightedTable<CrewProfile> waterCrew = new WeightedTable<>();
+    private final Predicate<Living> targets;
+    private int shownPlayersLeft = -1;
 
-    public OvertimeTask(final InstanceImpl instance, BossBar bossBar) {
+    public OvertimeTask(final InstanceImpl instance, final RoundBossBar bossBar) {
         super(instance);
         this.bossBar = bossBar;
         this.roundLengthTotal = 150; //TODO move to config
         this.roundLengthRemaining = this.roundLengthTotal;
+        this.targets = living -> living instanceof ServerPlayer && this.instance.isPlayerAlive((ServerPlayer) living);
+
+        for (final CrewProfile profile : instance.getType().getCrew()) {
+            (profile.isAquatic() ? this.waterCrew : this.landCrew).add(profile, profile.getWeight());
+        }
     }
 
     @Override
     public void accept(final ScheduledTask task) {
         final ServerWorld world = this.instance.world();
 
-        final TextComponent append = Component.text("OVERTIME!", NamedTextColor.RED)
-                .append(Component.space())
-                .append(Component.text(this.instance.playersLeft(), NamedTextColor.GOLD))
-                .append(Component.text(" Players left", NamedTextColor.RED));
-        this.bossBar.name(append);
-        final float percent = (float) this.roundLengthRemaining / this.roundLengthTotal;
-        this.bossBar.progress(Math.min(percent, 1));
+        if (this.hasAudience(world)) {
+            final int playersLeft = this.instance.playersLeft();
+            if (playersLeft != this.shownPlayersLeft) {
+                this.shownPlayersLeft = playersLeft;
+                final TextComponent append = Component.text("OVERTIME!", NamedTextColor.RED)
+                        .append(Component.space())
+                        .append(Component.text(playersLeft, NamedTextColor.GOLD))
+                        .append(Component.text(" Players left", NamedTextColor.RED));
+                this.bossBar.name(append);
+            }
+            final float percent = (float) this.roundLengthRemaining / this.roundLengthTotal;
+            this.bossBar.progress(percent);
+
+            this.bossBar.sync(world);
+        }
 
-        world.showBossBar(this.bossBar);
+        if (this.roundLengthRemaining != 0 && this.roundLengthRemaining == this.roundLengthTotal) {
+            this.instance.getBroadcast().title(InstanceBroadcast.Target.PLAYERS, this.title);
+        }
 
         for (final ServerPlayer player : world.players()) {
             if (!this.instance.isPlayerAlive(player)) {
@@ -103,9 +118,6 @@ public final class OvertimeTask extends InstanceTask {
             }
 
             if (this.roundLengthRemaining != 0) {
-                if (this.roundLengthRemaining == this.roundLengthTotal) {
-                    player.showTitle(this.title);
-                }
                 this.spawnCleanupCrew(world, this.random, player);
             }
         }
@@ -118,102 +130,60 @@ public final class OvertimeTask extends InstanceTask {
     @Override
     public void cleanup() {
         final ServerWorld world = this.instance.world();
-        world.hideBossBar(this.bossBar);
-        //TODO kill cleanup crew
+        this.bossBar.hideAll();
+
+        // Crew in unloaded chunks is not found here, it is removed once its chunk loads again
+        for (final UUID uniqueId : this.instance.getCrew()) {
+            world.entity(uniqueId).ifPresent(Entity::remove);
+        }
+        this.instance.getCrew().clear();
     }
 
     private void spawnCleanupCrew(ServerWorld world, Random random, ServerPlayer player) {
         final ServerLocation playerLocaction = player.serverLocation();
         final Vector3d location = playerLocaction.position();
 
-        ServerLocation spawnLocation = null;
+        final SafeSpawnGrid grid = this.instance.getSafeSpawnGrid();
+        final Vector3i origin = playerLocaction.blockPosition();
 
-        Human human = world.createEntity(EntityTypes.HUMAN.get(), location);
-        Guardian guardian = world.createEntity(EntityTypes.GUARDIAN.get(), location);
+        ServerLocation spawnLocation = null;
+        boolean waterSpawn = false;
 
         // 4 tries to spawn
-        int tries = 4;
-
-        boolean waterSpawn = false;
-        while (tries > 0) {
-            spawnLocation = Sponge.server().teleportHelper().findSafeLocation(
-                    playerLocaction.add((random.nextInt(4) + 5) * (random.nextBoolean() ? 1 : -1), 0,
-                                        (random.nextInt(4) + 5) * (random.nextBoolean() ? 1 : -1)) , 3, 3).orElse(null);
-
-            if (spawnLocation != null) {
-                waterSpawn = playerLocaction.blockType().isAnyOf(BlockTypes.WATER);
-                if (waterSpawn) {
-
-                    human.remove();
-                    if (world.entities(guardian.boundingBox().get()).isEmpty()) {
-                        tries--;
-                        continue;
-                    }
-                } else {
-
-                    guardian.remove();
-                    if (world.entities(human.boundingBox().get()).isEmpty()) {
-                        tries--;
-                        continue;
-                    }
+        for (int tries = 0; tries < 4 && spawnLocation == null; tries++) {
+            final int x = origin.x() + (random.nextInt(4) + 5) * (random.nextBoolean() ? 1 : -1);
+            final int z = origin.z() + (random.nextInt(4) + 5) * (random.nextBoolean() ? 1 : -1);
+
+            if (grid != null) {
+                final Vector3i column = grid.find(world, x, z, 1);
+                if (column != null) {
+                    spawnLocation = ServerLocation.of(world, column.x() + 0.5, column.y(), column.z() + 0.5);
+                    waterSpawn = grid.isWater(world, column.x(), column.z());
                 }
+            } else {
+                spawnLocation = Sponge.server().teleportHelper().findSafeLocation(ServerLocation.of(world, x, origin.y(), z), 3, 3).orElse(null);
+                waterSpawn = spawnLocation != null && spawnLocation.blockType().isAnyOf(BlockTypes.WATER);
             }
-
-            tries--;
         }
 
+        // Only create the entity we are actually going to spawn
         if (spawnLocation != null) {
-            if (waterSpawn) {
-                guardian.offer(Keys.POTION_EFFECTS, Arrays.asList(PotionEffect.of(PotionEffectTypes.SPEED, 2, 10000)));
-                world.spawnEntity(guardian);
-                guardian.setLocation(spawnLocation);
-            } else {
-                world.spawnEntity(this.customizeHuman(random, human));
-                human.setLocation(spawnLocation);
+            final List<CrewProfile> profile = (waterSpawn ? this.waterCrew : this.landCrew).get(random);
+            if (!profile.isEmpty()) {
+                this.spawnCrewMember(world, profile.get(0).create(world, spawnLocation.position(), this.targets));
             }
         }
         // someone tried to be smart
         final Silverfish silverfish = world.createEntity(EntityTypes.SILVERFISH, location);
         silverfish.offer(Keys.HEALTH, 200.0);
         silverfish.offer(Keys.POTION_EFFECTS, Arrays.asList(PotionEffect.of(PotionEffectTypes.POISON, 1, 100), PotionEffect.of(PotionEffectTypes.STRENGTH, 1, 100)));
-        world.spawnEntity(silverfish);
+        this.spawnCrewMember(world, silverfish);
     }
 
-    private Human customizeHuman(Random random, Human human) {
-        final GoalExecutor<Agent> targetGoal = human.goal(GoalExecutorTypes.TARGET.get()).orElse(null);
-        targetGoal.addGoal(0, FindNearestAttackableTargetGoal.builder().chance(1).target(ServerPlayer.class)
-                .filter(e -> this.instance.isPlayerAlive((ServerPlayer) e)).build(human));
-
-        final GoalExecutor<Agent> normalGoal = human.goal(GoalExecutorTypes.NORMAL.get()).orElse(null);
-        normalGoal.addGoal(0, SwimGoal.builder().swimChance(0.8f).build(human));
-
-        final float rangerChance = random.nextFloat();
-
-        boolean ranger = false;
-
-        if (rangerChance < 0.3f) {
-            normalGoal.addGoal(1,
-                    RangedAttackAgainstAgentGoal.builder().moveSpeed(7.75).attackRadius(15f).delayBetweenAttacks(65).build(
-                            human));
-            human.setItemInHand(HandTypes.MAIN_HAND, ItemStack.of(ItemTypes.BOW, 1));
-            final ItemStack tipped = ItemStack.of(ItemTypes.TIPPED_ARROW, 1);
-            tipped.offer(Keys.POTION_EFFECTS, Arrays.asList(
-                    PotionEffect.of(PotionEffectTypes.GLOWING.get(), 1, 60),
-                    PotionEffect.of(PotionEffectTypes.SLOWNESS.get(), 1, 60)));
-
-            human.setItemInHand(HandTypes.OFF_HAND, tipped);
-            ranger = true;
-        } else {
-            normalGoal.addGoal(1, AttackLivingGoal.builder().longMemory().speed(8.25).build(human));
-            human.setItemInHand(HandTypes.MAIN_HAND, ItemStack.of(ItemTypes.DIAMOND_SWORD, 1));
+    private void spawnCrewMember(final ServerWorld world, final Entity entity) {
+        entity.offer(RoyaleKeys.CREW, true);
+        if (world.spawnEntity(entity)) {
+            this.instance.getCrew().add(entity.uniqueId());
         }
-
-        normalGoal.addGoal(2, RandomWalkingGoal.builder().speed(6.5).build(human));
-        normalGoal.addGoal(3, LookAtGoal.builder().maxDistance(8f).watch(ServerPlayer.class).build(human));
-        normalGoal.addGoal(3, LookRandomlyGoal.builder().build(human));
-
-        human.offer(Keys.CUSTOM_NAME, Component.text(ranger ? "Ranger" : "Swordsman",
-                ranger ? NamedTextColor.GREEN : NamedTextColor.BLUE));
-        return human;
     }
 }
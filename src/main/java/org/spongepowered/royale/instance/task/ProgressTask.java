@@ -29,15 +29,16 @@ import net.kyori.adventure.text.Component;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.royale.instance.InstanceImpl;
+import org.spongepowered.royale.instance.RoundBossBar;
 
 public final class ProgressTask extends InstanceTask {
 
-    private final BossBar bossBar;
+    private final RoundBossBar bossBar;
     private final long roundLengthTotal;
     private final boolean infinite;
     private long roundLengthRemaining;
 
-    public ProgressTask(final InstanceImpl instance, BossBar bossBar) {
+    public ProgressTask(final InstanceImpl instance, final RoundBossBar bossBar) {
         super(instance);
         this.bossBar = bossBar;
         this.roundLengthTotal = instance.getType().getRoundLength();
@@ -50,10 +51,12 @@ public final class ProgressTask extends InstanceTask {
         final ServerWorld world = this.instance.world();
 
         if (this.infinite) {
-            this.bossBar.progress(1);
-            this.bossBar.color(BossBar.Color.GREEN);
-            this.bossBar.name(Component.text("Time remaining: --")); //TODO
-            world.showBossBar(this.bossBar);
+            if (this.hasAudience(world)) {
+                this.bossBar.progress(1);
+                this.bossBar.color(BossBar.Color.GREEN);
+                this.bossBar.name(Component.text("Time remaining: --")); //TODO
+                this.bossBar.sync(world);
+            }
             return;
         }
 
@@ -61,9 +64,21 @@ public final class ProgressTask extends InstanceTask {
             throw new IllegalStateException("Round should be over but the progress task is still running");
         }
 
+        // Nobody to show the clock to, only advance it. The boss bar is resynced once someone enters.
+        if (this.hasAudience(world)) {
+            this.updateBossBar(world);
+        }
+
+        if (this.roundLengthRemaining-- == 0) {
+            this.instance.advance();
+        }
+    }
+
+    private void updateBossBar(final ServerWorld world) {
         final float percent = (float) this.roundLengthRemaining / this.roundLengthTotal;
         this.bossBar.progress(percent);
 
+        // Same thresholds as before, the bar only sends a packet when the color actually flips
         if (percent < 0.33) {
             this.bossBar.color(BossBar.Color.RED);
         } else if (percent < 0.66) {
@@ -80,16 +95,11 @@ public final class ProgressTask extends InstanceTask {
             this.bossBar.name(Component.text(String.format("Time remaining: %02d", seconds)));
         }
 
-        world.showBossBar(this.bossBar);
-
-        if (this.roundLengthRemaining-- == 0) {
-            this.instance.advance();
-        }
+        this.bossBar.sync(world);
     }
 
     @Override
     public void cleanup() {
-        final ServerWorld world = this.instance.world();
-        world.hideBossBar(this.bossBar);
+        this.bossBar.hideAll();
     }
 }
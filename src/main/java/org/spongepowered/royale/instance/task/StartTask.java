@@ -28,21 +28,52 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.title.Title;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.royale.Royale;
+import org.spongepowered.royale.instance.InstanceBroadcast;
 import org.spongepowered.royale.instance.InstanceImpl;
+import org.spongepowered.royale.template.ComponentTemplate;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public final class StartTask extends InstanceTask {
 
+    private final ComponentTemplate startTemplate;
+    // Only templates without placeholders are rendered ahead of time, placeholder parsers read server state and aren't thread safe
+    private final @Nullable CompletableFuture<Component> prerenderedStartTitle;
     private int seconds = 0;
 
     public StartTask(final InstanceImpl instance) {
         super(instance);
+        this.startTemplate = instance.getType().getRoundStartTemplate();
+        if (this.startTemplate.hasPlaceholders()) {
+            this.prerenderedStartTitle = null;
+        } else {
+            this.prerenderedStartTitle = CompletableFuture.supplyAsync(this::renderStartTitle, Royale.getInstance().getWorkerExecutorService());
+        }
+    }
+
+    private Component renderStartTitle() {
+        try {
+            return this.startTemplate.parse(null, Collections.emptyMap());
+        } catch (final RuntimeException e) {
+            Royale.getInstance().getPlugin().logger().error("Failed to render the round start template", e);
+            return Component.empty();
+        }
+    }
+
+    // Never waits on the worker, a title it hasn't rendered yet is rendered right here
+    private Component startTitle() {
+        if (this.prerenderedStartTitle != null && this.prerenderedStartTitle.isDone()) {
+            return this.prerenderedStartTitle.join();
+        }
+        return this.renderStartTitle();
     }
 
     @Override
@@ -54,23 +85,28 @@ public final class StartTask extends InstanceTask {
             throw new IllegalStateException("Instance should have already started but the start task is still running");
         }
 
+        this.instance.enforceFrozen();
+
+        // Without an audience the countdown still runs, it just isn't shown
+        final boolean audience = this.hasAudience(world);
         final Title.Times times = Title.Times.of(Duration.ZERO, Duration.ofMillis(600), Duration.ofMillis(400));
 
         if (remaining == 0) {
-            final Component template = this.instance.getType().getRoundStartTemplate().parse(null, Collections.emptyMap());
-            world.showTitle(Title.title(template, Component.empty(), times));
+            if (audience) {
+                this.instance.getBroadcast().title(InstanceBroadcast.Target.ALL, Title.title(this.startTitle(), Component.empty(), times));
+            }
             this.instance.advance();
+        } else if (audience) {
+            Title title;
+            if (remaining == 1) {
+                title = Title.title(Component.text("1", NamedTextColor.GOLD), Component.empty(), times);
+            } else if (remaining == 2) {
+                title = Title.title(Component.text("2", NamedTextColor.RED), Component.empty(), times);
+            } else {
+                title = Title.title(Component.text(remaining, NamedTextColor.DARK_RED), Component.empty(), times);
+            }
+            this.instance.getBroadcast().title(InstanceBroadcast.Target.ALL, title);
         }
-
-        Title title;
-        if (remaining == 1) {
-            title = Title.title(Component.text("1", NamedTextColor.GOLD), Component.empty(), times);
-        } else if (remaining == 2) {
-            title = Title.title(Component.text("2", NamedTextColor.RED), Component.empty(), times);
-        } else {
-            title = Title.title(Component.text(remaining, NamedTextColor.DARK_RED), Component.empty(), times);
-        }
-        world.showTitle(title);
         this.seconds++;
     }
 }
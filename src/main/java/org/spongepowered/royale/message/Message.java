@@ -0,0 +1,80 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.message;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The texts Royale sends to players, with their English defaults in
+ * MiniMessage format. Messages taking an argument refer to it as {@code <arg>}.
+ */
+public enum Message {
+
+    PLAYERS_LEFT("players-left", "<green><arg> players left", true),
+    WORLD_FULL("world-full", "<red>World is full!", false),
+    JOINING_WORLD("joining-world", "<green>Joining world '<arg>'", true),
+    WELCOME("welcome", "Welcome to the game. Please stand by while others join. You will not be able to move until the game starts.", false),
+    INSTANCE_UNLOADING("instance-unloading", "This instance is unloading. You are being moved to the lobby", false),
+    WINNER_SELF("winner-self", "<green>You are the winner!", false),
+    WINNER_ANNOUNCEMENT("winner-announcement", "<green><arg></green><white> has won the game!", true),
+    WINNER_TITLE("winner-title", "<green><arg></green><white> is the winner!", true),
+    SPECTATORS_FULL("spectators-full", "<red>There is no room for more spectators!", false);
+
+    private static final Map<String, Message> BY_KEY = new HashMap<>();
+
+    static {
+        for (final Message message : Message.values()) {
+            Message.BY_KEY.put(message.key, message);
+        }
+    }
+
+    private final String key;
+    private final String defaultTemplate;
+    private final boolean hasArgument;
+
+    Message(final String key, final String defaultTemplate, final boolean hasArgument) {
+        this.key = key;
+        this.defaultTemplate = defaultTemplate;
+        this.hasArgument = hasArgument;
+    }
+
+    public static Optional<Message> byKey(final String key) {
+        return Optional.ofNullable(Message.BY_KEY.get(key));
+    }
+
+    public String key() {
+        return this.key;
+    }
+
+    public String defaultTemplate() {
+        return this.defaultTemplate;
+    }
+
+    public boolean hasArgument() {
+        return this.hasArgument;
+    }
+}
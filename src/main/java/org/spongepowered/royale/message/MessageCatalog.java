@@ -0,0 +1,175 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.Template;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.royale.Royale;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Localized {@link Message}s, rendered once per locale and per argument.
+ *
+ * <p>Translations are read from {@code lang/<locale>.properties} in the
+ * config folder, e.g. {@code lang/de_de.properties}, and map message keys to
+ * MiniMessage templates. Anything missing falls back to the language without
+ * its country, then to the English default.</p>
+ *
+ * <p>Rendered components are immutable and handed out as they are, sending a
+ * message only costs a lookup. Main thread only.</p>
+ */
+public final class MessageCatalog {
+
+    // Arguments are mostly small counts and world keys, this only bounds a misbehaving caller
+    private static final int MAX_RENDERED_ARGUMENTS = 64;
+
+    private final Map<Locale, Map<Message, String>> translations = new HashMap<>();
+    private final Map<Locale, Entry[]> rendered = new HashMap<>();
+
+    public void load(final Path folder) {
+        this.translations.clear();
+        this.rendered.clear();
+        if (Files.notExists(folder)) {
+            return;
+        }
+
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(folder, entry -> entry.getFileName().toString().endsWith(".properties"))) {
+            for (final Path path : stream) {
+                final String fileName = path.getFileName().toString();
+                final Locale locale = Locale.forLanguageTag(fileName.substring(0, fileName.length() - ".properties".length()).replace('_', '-'));
+                final Properties properties = new Properties();
+                try (final Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                } catch (final IOException e) {
+                    Royale.getInstance().getPlugin().logger().error("Failed to load translations from [{}]!", path, e);
+                    continue;
+                }
+
+                final Map<Message, String> templates = new EnumMap<>(Message.class);
+                for (final String key : properties.stringPropertyNames()) {
+                    final Message message = Message.byKey(key).orElse(null);
+                    if (message == null) {
+                        Royale.getInstance().getPlugin().logger().warn("Unknown message key '{}' in [{}]", key, path);
+                        continue;
+                    }
+                    templates.put(message, properties.getProperty(key));
+                }
+                this.translations.put(locale, templates);
+            }
+        } catch (final IOException e) {
+            Royale.getInstance().getPlugin().logger().error("Failed to iterate over the translation files!", e);
+        }
+    }
+
+    public Component render(final ServerPlayer player, final Message message) {
+        return this.render(player.locale(), message);
+    }
+
+    public Component render(final ServerPlayer player, final Message message, final String argument) {
+        return this.render(player.locale(), message, argument);
+    }
+
+    public Component render(final ServerPlayer player, final Message message, final Component argument) {
+        return this.render(player.locale(), message, argument);
+    }
+
+    public Component render(final Locale locale, final Message message) {
+        if (message.hasArgument()) {
+            throw new IllegalArgumentException("Message " + message + " requires an argument");
+        }
+        return this.entries(locale)[message.ordinal()].plain;
+    }
+
+    public Component render(final Locale locale, final Message message, final String argument) {
+        return this.renderArgument(locale, message, argument);
+    }
+
+    public Component render(final Locale locale, final Message message, final Component argument) {
+        return this.renderArgument(locale, message, argument);
+    }
+
+    private Component renderArgument(final Locale locale, final Message message, final Object argument) {
+        if (!message.hasArgument()) {
+            throw new IllegalArgumentException("Message " + message + " does not take an argument");
+        }
+        final Entry entry = this.entries(locale)[message.ordinal()];
+        Component rendered = entry.byArgument.get(argument);
+        if (rendered == null) {
+            if (entry.byArgument.size() >= MessageCatalog.MAX_RENDERED_ARGUMENTS) {
+                entry.byArgument.clear();
+            }
+            rendered = MiniMessage.get().parse(entry.template, argument instanceof Component ? Template.of("arg", (Component) argument)
+                    : Template.of("arg", (String) argument));
+            entry.byArgument.put(argument, rendered);
+        }
+        return rendered;
+    }
+
+    private Entry[] entries(final Locale locale) {
+        Entry[] entries = this.rendered.get(locale);
+        if (entries == null) {
+            final Map<Message, String> exact = this.translations.get(locale);
+            final Map<Message, String> language = this.translations.get(new Locale(locale.getLanguage()));
+            final Message[] messages = Message.values();
+            entries = new Entry[messages.length];
+            for (final Message message : messages) {
+                String template = exact == null ? null : exact.get(message);
+                if (template == null && language != null) {
+                    template = language.get(message);
+                }
+                entries[message.ordinal()] = new Entry(message, template == null ? message.defaultTemplate() : template);
+            }
+            this.rendered.put(locale, entries);
+        }
+        return entries;
+    }
+
+    private static final class Entry {
+
+        final String template;
+        final @Nullable Component plain;
+        // Keyed by the String or Component argument
+        final Map<Object, Component> byArgument = new HashMap<>();
+
+        Entry(final Message message, final String template) {
+            this.template = template;
+            this.plain = message.hasArgument() ? null : MiniMessage.get().parse(template);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds.
+ *
+ * <p>Buckets are log-linear: every power of two is split into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so any recorded value is off by
+ * at most 1/{@value #SUB_BUCKETS} of itself while the whole range of a
+ * {@code long} fits in a few hundred counters. Recording never allocates.</p>
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << LatencyHistogram.SUB_BUCKET_BITS;
+    private static final int BUCKETS = LatencyHistogram.SUB_BUCKETS * (Long.SIZE - LatencyHistogram.SUB_BUCKET_BITS);
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(LatencyHistogram.BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    LatencyHistogram(final String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        this.counts.incrementAndGet(LatencyHistogram.index(value));
+        this.total.addAndGet(value);
+        long current;
+        while (value > (current = this.max.get()) && !this.max.compareAndSet(current, value)) {
+            // Lost a race against a bigger or concurrent value, retry
+        }
+    }
+
+    /**
+     * Copies the current counters without stopping recordings, so the result
+     * is approximate: a concurrent recording may be part of some counters and
+     * not of others, e.g. counted in a bucket but not yet in the total.
+     */
+    public Snapshot snapshot() {
+        final long[] counts = new long[LatencyHistogram.BUCKETS];
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this.counts.get(i);
+            count += counts[i];
+        }
+        return new Snapshot(counts, count, this.total.get(), this.max.get());
+    }
+
+    static int index(final long value) {
+        final int magnitude = Math.max(0, Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - LatencyHistogram.SUB_BUCKET_BITS);
+        return (magnitude << LatencyHistogram.SUB_BUCKET_BITS) + (int) (value >>> magnitude);
+    }
+
+    static long highestEquivalent(final int index) {
+        if (index < LatencyHistogram.SUB_BUCKETS * 2) {
+            return index;
+        }
+        final int magnitude = (index >> LatencyHistogram.SUB_BUCKET_BITS) - 1;
+        final long mantissa = index - ((long) magnitude << LatencyHistogram.SUB_BUCKET_BITS);
+        return ((mantissa + 1) << magnitude) - 1;
+    }
+
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long total;
+        private final long max;
+
+        Snapshot(final long[] counts, final long count, final long total, final long max) {
+            this.counts = counts;
+            this.count = count;
+            this.total = total;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public long getTotalNanos() {
+            return this.total;
+        }
+
+        public long getMaxNanos() {
+            return this.max;
+        }
+
+        public double getMeanNanos() {
+            return this.count == 0 ? 0 : (double) this.total / this.count;
+        }
+
+        /**
+         * @param percentile Between 0 and 100
+         * @return The highest latency within the bucket the percentile falls into
+         */
+        public long getPercentileNanos(final double percentile) {
+            if (this.count == 0) {
+                return 0;
+            }
+            final long target = Math.max(1, (long) Math.ceil(this.count * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < this.counts.length; i++) {
+                seen += this.counts[i];
+                if (seen >= target) {
+                    return Math.min(LatencyHistogram.highestEquivalent(i), this.max);
+                }
+            }
+            return this.max;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invocation counts and latencies of the Royale event listeners.
+ */
+public final class ListenerMetrics {
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Gets or creates the histogram of a listener. Meant to be resolved once
+     * and kept by the listener, not looked up per event.
+     */
+    public LatencyHistogram histogram(final String listener) {
+        return this.histograms.computeIfAbsent(listener, LatencyHistogram::new);
+    }
+
+    /**
+     * Runs a listener body and records how long it took, also when it throws.
+     */
+    public static void timed(final LatencyHistogram timer, final Runnable body) {
+        final long start = System.nanoTime();
+        try {
+            body.run();
+        } finally {
+            timer.record(System.nanoTime() - start);
+        }
+    }
+
+    public SortedMap<String, LatencyHistogram.Snapshot> snapshot() {
+        final SortedMap<String, LatencyHistogram.Snapshot> snapshot = new TreeMap<>();
+        for (final LatencyHistogram histogram : this.histograms.values()) {
+            snapshot.put(histogram.getName(), histogram.snapshot());
+        }
+        return snapshot;
+    }
+
+    public List<String> report() {
+        final List<String> lines = new ArrayList<>();
+        for (final Map.Entry<String, LatencyHistogram.Snapshot> entry : this.snapshot().entrySet()) {
+            lines.add(ListenerMetrics.describe(entry.getKey(), entry.getValue()));
+        }
+        return lines;
+    }
+
+    public void dump(final Path file) throws IOException {
+        Files.write(file, this.report(), StandardCharsets.UTF_8);
+    }
+
+    private static String describe(final String listener, final LatencyHistogram.Snapshot snapshot) {
+        return String.format(Locale.ROOT, "%s: %d calls, total %.2fms, mean %.1fus, p50 %.1fus, p99 %.1fus, p99.9 %.1fus, max %.1fus",
+                listener,
+                snapshot.getCount(),
+                snapshot.getTotalNanos() / 1_000_000.0,
+                snapshot.getMeanNanos() / 1_000.0,
+                snapshot.getPercentileNanos(50) / 1_000.0,
+                snapshot.getPercentileNanos(99) / 1_000.0,
+                snapshot.getPercentileNanos(99.9) / 1_000.0,
+                snapshot.getMaxNanos() / 1_000.0);
+    }
+}
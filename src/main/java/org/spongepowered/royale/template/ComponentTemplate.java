@@ -24,8 +24,9 @@
  */
 package org.spongepowered.royale.template;
 
-import com.google.common.collect.ImmutableMap;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.Template;
 import net.kyori.adventure.text.serializer.plain.PlainComponentSerializer;
@@ -35,58 +36,203 @@ import org.spongepowered.api.Sponge;
 import org.spongepowered.api.placeholder.PlaceholderContext;
 import org.spongepowered.api.placeholder.PlaceholderParser;
 import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.royale.Royale;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * A MiniMessage template with Sponge placeholders ({@code <pl_namespace:key>}
+ * or {@code <pl_namespace:key_argument>}).
+ *
+ * <p>The template is parsed once, with every placeholder replaced by a slot.
+ * Rendering only resolves the placeholders and puts them into their slots,
+ * rebuilding just the nodes leading to a slot. Slots inside hover texts are
+ * filled as well; a template with a placeholder in a click or insertion value
+ * is parsed again on every render instead.</p>
+ */
 public final class ComponentTemplate {
 
     private final static Pattern PLACEHOLDER_TAG = Pattern.compile("<(?<token>pl_(?<placeholder>.+:.+)(_(?<arg>.+))?)>");
-    private final static ParserContextPair NULL_PLACEHOLDER = new ParserContextPair(null, null);
+    private final static ParserContextPair NULL_PLACEHOLDER = new ParserContextPair(null, null, null);
+    // Private use characters, they survive MiniMessage untouched and never show up in a config by accident
+    private final static char SLOT_START = '\uE000';
+    private final static char SLOT_END = '\uE001';
 
     private final String templatedString;
-    private final Map<String, ParserContextPair> detectedPlaceholders;
+    private final String slottedString;
+    private final ParserContextPair[] slots;
+    private final String[] tokens;
+    private final Component compiled;
+    // Identity based, equal nodes may appear in different places of the tree
+    private final Set<Component> slotted = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Component, Integer> slotNodes = new IdentityHashMap<>();
+    // Set when some slot is not a node of the tree, e.g. it sits in a click or insertion value
+    private final boolean reparse;
 
     public ComponentTemplate(final String templatedString) {
         this.templatedString = templatedString;
-        this.detectedPlaceholders = ComponentTemplate.determinePlaceholders(templatedString);
-    }
 
-    // Determines the placeholders available in the
-    private static Map<String, ParserContextPair> determinePlaceholders(final String templatedString) {
-        final ImmutableMap.Builder<String, ParserContextPair> mapBuilder = ImmutableMap.builder();
+        final List<ParserContextPair> slots = new ArrayList<>();
+        final List<String> tokens = new ArrayList<>();
+        final StringBuffer slotted = new StringBuffer();
         // scan the string for the token `<pl_.+:.+(_.+)?>`
         final Matcher matcher = ComponentTemplate.PLACEHOLDER_TAG.matcher(templatedString);
         while (matcher.find()) {
-            final String entry = matcher.group("token"); // entire thing needed for template matching
-            final String placeholder = matcher.group("placeholder");
-            try {
-                final Optional<PlaceholderParser> parser = Sponge.game().registry(RegistryTypes.PLACEHOLDER_PARSER).findValue(ResourceKey.resolve(placeholder));
-                if (parser.isPresent()) {
-                    mapBuilder.put(entry, new ParserContextPair(parser.get(), matcher.group("arg")));
-                } else {
-                    mapBuilder.put(entry, ComponentTemplate.NULL_PLACEHOLDER);
+            matcher.appendReplacement(slotted, Matcher.quoteReplacement(ComponentTemplate.SLOT_START + Integer.toString(slots.size())
+                    + ComponentTemplate.SLOT_END));
+            slots.add(ComponentTemplate.determinePlaceholder(matcher.group("placeholder"), matcher.group("arg")));
+            tokens.add(matcher.group("token"));
+        }
+        matcher.appendTail(slotted);
+
+        this.slottedString = slotted.toString();
+        this.slots = slots.toArray(new ParserContextPair[0]);
+        this.tokens = tokens.toArray(new String[0]);
+        this.compiled = this.compile(MiniMessage.get().parse(this.slottedString));
+        this.reparse = this.slotNodes.size() < this.slots.length;
+    }
+
+    private ComponentTemplate(final ComponentTemplate template, final Component parsed) {
+        this.templatedString = template.templatedString;
+        this.slottedString = template.slottedString;
+        this.slots = template.slots;
+        this.tokens = template.tokens;
+        this.compiled = this.compile(parsed);
+        this.reparse = template.reparse;
+    }
+
+    private static ParserContextPair determinePlaceholder(final String placeholder, @Nullable final String arg) {
+        try {
+            final ResourceKey key = ResourceKey.resolve(placeholder);
+            final Optional<PlaceholderParser> parser = Sponge.game().registry(RegistryTypes.PLACEHOLDER_PARSER).findValue(key);
+            if (parser.isPresent()) {
+                return new ParserContextPair(key, parser.get(), arg);
+            }
+        } catch (final RuntimeException ignored) {
+        }
+        return ComponentTemplate.NULL_PLACEHOLDER;
+    }
+
+    /**
+     * Splits the text nodes containing slot markers so that every slot ends
+     * up as a node of its own, and remembers which nodes lead to a slot.
+     */
+    private Component compile(final Component parsed) {
+        Component node = parsed;
+        boolean hasSlot = false;
+        final @Nullable Component hoverText = ComponentTemplate.hoverText(node);
+        if (hoverText != null) {
+            final Component compiled = this.compile(hoverText);
+            if (this.slotted.contains(compiled)) {
+                node = node.hoverEvent(HoverEvent.showText(compiled));
+                hasSlot = true;
+            }
+        }
+
+        final List<Component> children = new ArrayList<>(node.children().size());
+        for (final Component child : node.children()) {
+            final Component compiled = this.compile(child);
+            hasSlot |= this.slotted.contains(compiled);
+            children.add(compiled);
+        }
+
+        if (node instanceof TextComponent && ((TextComponent) node).content().indexOf(ComponentTemplate.SLOT_START) != -1) {
+            final String content = ((TextComponent) node).content();
+            final TextComponent.Builder builder = Component.text().style(node.style());
+            int position = 0;
+            int start;
+            while ((start = content.indexOf(ComponentTemplate.SLOT_START, position)) != -1) {
+                final int end = content.indexOf(ComponentTemplate.SLOT_END, start);
+                if (start > position) {
+                    builder.append(Component.text(content.substring(position, start)));
                 }
-            } catch (final RuntimeException ex) {
-                mapBuilder.put(entry, ComponentTemplate.NULL_PLACEHOLDER);
+                final Component slot = Component.text(content.substring(start, end + 1));
+                this.slotNodes.put(slot, Integer.parseInt(content.substring(start + 1, end)));
+                this.slotted.add(slot);
+                builder.append(slot);
+                position = end + 1;
             }
+            if (position < content.length()) {
+                builder.append(Component.text(content.substring(position)));
+            }
+            final Component compiled = builder.append(children).build();
+            this.slotted.add(compiled);
+            return compiled;
         }
 
-        return mapBuilder.build();
+        final Component compiled = node.children(children);
+        if (hasSlot) {
+            this.slotted.add(compiled);
+        }
+        return compiled;
+    }
+
+    private static @Nullable Component hoverText(final Component node) {
+        final @Nullable HoverEvent<?> hoverEvent = node.hoverEvent();
+        if (hoverEvent != null && hoverEvent.value() instanceof Component) {
+            return (Component) hoverEvent.value();
+        }
+        return null;
     }
 
     public Component parse(@Nullable final Object associatedObject, final Map<String, Component> arbitraryTokens) {
-        final List<Template> templateList = new ArrayList<>();
-        System.out.println("Sending " + this.templatedString + " to MiniMessage");
-        // TODO: If/when MiniMessage works with components again, remove the plain serializer call.
-        this.detectedPlaceholders.forEach((key, component) -> templateList.add(
-                Template.of(key, PlainComponentSerializer.plain().serialize(component.createComponent(associatedObject)))));
-        arbitraryTokens.forEach((key, component) -> templateList.add(Template.of(key, component)));
-        return MiniMessage.get().parse(this.templatedString, templateList);
+        final Component[] values = new Component[this.slots.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.slots[i].createComponent(associatedObject);
+        }
+
+        if (this.reparse) {
+            // Tag arguments only take strings, so the placeholders go in as plain text
+            final List<Template> templateList = new ArrayList<>();
+            for (int i = 0; i < values.length; i++) {
+                templateList.add(Template.of(this.tokens[i], PlainComponentSerializer.plain().serialize(values[i])));
+            }
+            arbitraryTokens.forEach((key, component) -> templateList.add(Template.of(key, component)));
+            return MiniMessage.get().parse(this.templatedString, templateList);
+        }
+        if (!arbitraryTokens.isEmpty()) {
+            // Arbitrary tokens are only known now, so the template has to be parsed again. Nothing in Royale passes any.
+            final List<Template> templateList = new ArrayList<>();
+            arbitraryTokens.forEach((key, component) -> templateList.add(Template.of(key, component)));
+            final ComponentTemplate reparsed = new ComponentTemplate(this, MiniMessage.get().parse(this.slottedString, templateList));
+            return reparsed.fill(reparsed.compiled, values);
+        }
+        return this.fill(this.compiled, values);
+    }
+
+    private Component fill(final Component node, final Component[] values) {
+        if (!this.slotted.contains(node)) {
+            return node;
+        }
+        final Integer slot = this.slotNodes.get(node);
+        if (slot != null) {
+            return values[slot];
+        }
+        final @Nullable Component hoverText = ComponentTemplate.hoverText(node);
+        final Component filled = hoverText != null && this.slotted.contains(hoverText)
+                ? node.hoverEvent(HoverEvent.showText(this.fill(hoverText, values)))
+                : node;
+        final List<Component> children = new ArrayList<>(node.children().size());
+        for (final Component child : node.children()) {
+            children.add(this.fill(child, values));
+        }
+        return filled.children(children);
+    }
+
+    /**
+     * @return Whether rendering resolves Sponge placeholders, which must only
+     *     happen on the main thread
+     */
+    public boolean hasPlaceholders() {
+        return this.slots.length > 0;
     }
 
     public String getTemplatedString() {
@@ -95,20 +241,24 @@ public final class ComponentTemplate {
 
     static final class ParserContextPair {
 
+        @Nullable private final ResourceKey key;
         @Nullable private final PlaceholderParser parser;
         @Nullable private final String args;
 
-        ParserContextPair(@Nullable final PlaceholderParser parser, @Nullable final String args) {
+        ParserContextPair(@Nullable final ResourceKey key, @Nullable final PlaceholderParser parser, @Nullable final String args) {
+            this.key = key;
             this.parser = parser;
             this.args = args;
         }
 
         Component createComponent(@Nullable final Object associatedObject) {
-            if (this.parser == null) {
+            if (this.key == null || this.parser == null) {
                 return Component.empty();
             }
 
-            return this.parser.parse(PlaceholderContext.builder().argumentString(this.args).associatedObject(associatedObject).build()).asComponent();
+            final PlaceholderParser parser = this.parser;
+            return Royale.getInstance().getPlaceholderCache().resolve(this.key, this.args, associatedObject, () ->
+                    parser.parse(PlaceholderContext.builder().argumentString(this.args).associatedObject(associatedObject).build()).asComponent());
         }
 
     }
@@ -0,0 +1,160 @@
+/*
+ * This file is part of Royale, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <http://github.com/SpongePowered>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.royale.template;
+
+import net.kyori.adventure.text.Component;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.util.Identifiable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A small, bounded cache of placeholder results, so that the same template
+ * rendered for the same object over and over again doesn't call the
+ * placeholder parser every time.
+ *
+ * <p>Results are kept for a time to live depending on the parser. Templates
+ * are rendered from the main thread as well as workers, hence the locking.</p>
+ */
+public final class PlaceholderCache {
+
+    private static final int MAX_ENTRIES = 512;
+    private static final long DEFAULT_TIME_TO_LIVE = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<ResourceKey, Long> timeToLive = new HashMap<>();
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+            return this.size() > PlaceholderCache.MAX_ENTRIES;
+        }
+    };
+
+    public PlaceholderCache() {
+        // Names don't change while a player is online, and the entry goes when they disconnect
+        this.setTimeToLive(ResourceKey.sponge("name"), 30, TimeUnit.SECONDS);
+    }
+
+    public synchronized void setTimeToLive(final ResourceKey parser, final long duration, final TimeUnit unit) {
+        this.timeToLive.put(parser, unit.toNanos(duration));
+    }
+
+    Component resolve(final ResourceKey parser, @Nullable final String args, @Nullable final Object associatedObject,
+            final Supplier<Component> supplier) {
+        final Key key = new Key(parser, args, PlaceholderCache.identity(associatedObject));
+        final long now = System.nanoTime();
+        final long timeToLive;
+        synchronized (this) {
+            final Entry entry = this.entries.get(key);
+            if (entry != null && entry.expiry - now > 0) {
+                return entry.value;
+            }
+            timeToLive = this.timeToLive.getOrDefault(parser, PlaceholderCache.DEFAULT_TIME_TO_LIVE);
+        }
+
+        // Parsed outside of the lock, a placeholder may take its time
+        final Component value = supplier.get();
+        if (timeToLive > 0) {
+            synchronized (this) {
+                this.entries.put(key, new Entry(value, now + timeToLive));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drops every result rendered for the object with the given unique id.
+     */
+    public synchronized void invalidate(final UUID uniqueId) {
+        final Iterator<Key> iterator = this.entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (uniqueId.equals(iterator.next().associatedObject)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        this.entries.clear();
+    }
+
+    // Identifiables are keyed by their unique id so players and entities aren't kept alive by the cache
+    private static @Nullable Object identity(@Nullable final Object associatedObject) {
+        if (associatedObject instanceof Identifiable) {
+            return ((Identifiable) associatedObject).uniqueId();
+        }
+        return associatedObject;
+    }
+
+    private static final class Key {
+
+        private final ResourceKey parser;
+        @Nullable private final String args;
+        @Nullable private final Object associatedObject;
+        private final int hashCode;
+
+        Key(final ResourceKey parser, @Nullable final String args, @Nullable final Object associatedObject) {
+            this.parser = parser;
+            this.args = args;
+            this.associatedObject = associatedObject;
+            this.hashCode = Objects.hash(parser, args, associatedObject);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || this.getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return this.parser.equals(key.parser) && Objects.equals(this.args, key.args) && Objects.equals(this.associatedObject, key.associatedObject);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    private static final class Entry {
+
+        final Component value;
+        final long expiry;
+
+        Entry(final Component value, final long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+    }
+}